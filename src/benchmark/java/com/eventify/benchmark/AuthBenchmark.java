@@ -0,0 +1,90 @@
+package com.eventify.benchmark;
+
+import com.eventify.model.User;
+import com.eventify.repository.UserRepository;
+import com.eventify.security.CustomUserDetailsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request authentication path: {@link CustomUserDetailsService} turning a stored user into
+ * {@code UserDetails} (role prefixing and authority mapping, with the repository stubbed out) and
+ * the BCrypt check done for every HTTP Basic request. {@code strength} is the BCrypt cost factor;
+ * 10 is the {@code BCryptPasswordEncoder} default used by PasswordEncoderConfig.
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args=AuthBenchmark</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"10"})
+    private int strength;
+
+    private CustomUserDetailsService prefixedRole;
+    private CustomUserDetailsService bareRole;
+    private BCryptPasswordEncoder passwordEncoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        hash = passwordEncoder.encode(PASSWORD);
+        prefixedRole = new CustomUserDetailsService(repositoryReturning(user("ROLE_ORGANIZER")));
+        bareRole = new CustomUserDetailsService(repositoryReturning(user("ORGANIZER")));
+    }
+
+    @Benchmark
+    public UserDetails loadUserWithPrefixedRole() {
+        return prefixedRole.loadUserByUsername("organizer@example.com");
+    }
+
+    @Benchmark
+    public UserDetails loadUserWithBareRole() {
+        return bareRole.loadUserByUsername("organizer@example.com");
+    }
+
+    @Benchmark
+    public boolean bcryptMatches() {
+        return passwordEncoder.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    public boolean bcryptMismatch() {
+        return passwordEncoder.matches("wrong password", hash);
+    }
+
+    private User user(String role) {
+        User user = new User();
+        user.setId(1L);
+        user.setName("Organizer");
+        user.setEmail("organizer@example.com");
+        user.setPassword(hash);
+        user.setRole(role);
+        return user;
+    }
+
+    // Only findByEmail is called, so a proxy keeps mocking overhead out of the measurement
+    private static UserRepository repositoryReturning(User user) {
+        Optional<User> result = Optional.of(user);
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByEmail")) {
+                        return result;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
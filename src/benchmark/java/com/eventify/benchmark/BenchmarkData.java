@@ -0,0 +1,50 @@
+package com.eventify.benchmark;
+
+import com.eventify.model.Event;
+import com.eventify.model.Registration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic fixtures shared by the benchmarks.
+ */
+public final class BenchmarkData {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private BenchmarkData() {
+    }
+
+    public static List<Event> events(int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            Event event = new Event();
+            event.setId(id);
+            event.setTitle("Session " + id + ": Scaling Spring Boot services");
+            event.setDescription("Talk number " + id + " covering caching, connection pools and JVM tuning "
+                    + "for high-traffic event registration systems.");
+            event.setLocation("Hall " + (id % 12 + 1));
+            event.setDateTime(START.plusHours(id));
+            event.setCapacity(500);
+            event.setOrganizerId(id % 50 + 1);
+            events.add(event);
+        }
+        return events;
+    }
+
+    public static Registration registration(Event event) {
+        Registration registration = new Registration();
+        registration.setId(event.getId());
+        registration.setUserId(event.getId() * 31 % 10_000 + 1);
+        registration.setEventId(event.getId());
+        registration.setRegisteredAt(START.minusDays(30).plusMinutes(event.getId()));
+        registration.setStatus("CONFIRMED");
+        return registration;
+    }
+
+    public static long registrationCount(Event event) {
+        return event.getId() * 7 % event.getCapacity();
+    }
+}
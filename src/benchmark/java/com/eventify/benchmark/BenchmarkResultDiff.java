@@ -0,0 +1,100 @@
+package com.eventify.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files (written with {@code -rf json}) benchmark by benchmark and
+ * prints the change in score. A change is flagged when it is worse than {@code --threshold} percent
+ * and larger than the combined error of both runs; with {@code --fail-on-regression} a flagged
+ * change makes the process exit with status 1, so a release build can gate on it.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.eventify.benchmark.BenchmarkResultDiff \
+ *     -Dbenchmark.args="--baseline=jmh/1.3.0.json --current=target/jmh-result.json --threshold=10"
+ * </pre>
+ */
+public class BenchmarkResultDiff {
+
+    public static void main(String[] rawArgs) throws IOException {
+        HarnessArgs args = new HarnessArgs(rawArgs);
+        String baselinePath = args.get("baseline", null);
+        String currentPath = args.get("current", "target/jmh-result.json");
+        if (baselinePath == null) {
+            throw new IllegalArgumentException("--baseline=<jmh result json> is required");
+        }
+        double threshold = Double.parseDouble(args.get("threshold", "10"));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Result> baseline = read(objectMapper, new File(baselinePath));
+        Map<String, Result> current = read(objectMapper, new File(currentPath));
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-70s %6s %14s %14s %9s", "benchmark", "mode", "baseline", "current", "change"));
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                report.add(String.format("%-70s %6s %14s %14s %9s", entry.getKey(), now.mode, "-", now.formatted(), "new"));
+                continue;
+            }
+            double change = (now.score - before.score) / before.score * 100;
+            // Time per operation gets worse as it grows, throughput as it shrinks
+            double worsening = now.lowerIsBetter() ? change : -change;
+            boolean significant = Math.abs(now.score - before.score) > now.error + before.error;
+            boolean regressed = worsening > threshold && significant;
+            if (regressed) {
+                regressions++;
+            }
+            report.add(String.format("%-70s %6s %14s %14s %+8.1f%%%s", entry.getKey(), now.mode,
+                    before.formatted(), now.formatted(), change, regressed ? "  REGRESSION" : ""));
+        }
+        baseline.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .forEach(key -> report.add(String.format("%-70s %6s %14s %14s %9s",
+                        key, baseline.get(key).mode, baseline.get(key).formatted(), "-", "removed")));
+
+        report.forEach(System.out::println);
+        System.out.printf("%d regression(s) worse than %.1f%%%n", regressions, threshold);
+        System.exit(regressions > 0 && args.getBoolean("fail-on-regression", false) ? 1 : 0);
+    }
+
+    private static Map<String, Result> read(ObjectMapper objectMapper, File file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode node : objectMapper.readTree(file)) {
+            String name = node.path("benchmark").asText().replace("com.eventify.benchmark.", "");
+            Map<String, String> params = new TreeMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.path("params").fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> param = it.next();
+                params.put(param.getKey(), param.getValue().asText());
+            }
+            String key = params.isEmpty() ? name : name + params;
+            JsonNode metric = node.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0);
+            results.put(key, new Result(node.path("mode").asText(), metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error, metric.path("scoreUnit").asText()));
+        }
+        return results;
+    }
+
+    private record Result(String mode, double score, double error, String unit) {
+
+        boolean lowerIsBetter() {
+            return !mode.equals("thrpt");
+        }
+
+        String formatted() {
+            return String.format("%.3f %s", score, unit);
+        }
+    }
+}
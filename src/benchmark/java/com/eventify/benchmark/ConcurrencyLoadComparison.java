@@ -0,0 +1,116 @@
+package com.eventify.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds a fixed number of concurrent requests open against each endpoint of a running
+ * instance and samples the server's live thread count through actuator, to compare how
+ * many server threads each endpoint needs per concurrent connection.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.eventify.benchmark.ConcurrencyLoadComparison \
+ *     -Dbenchmark.args="--base-url=http://localhost:8080 --concurrency=500 --duration-seconds=30"
+ * </pre>
+ */
+public class ConcurrencyLoadComparison {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] rawArgs) throws Exception {
+        HarnessArgs args = new HarnessArgs(rawArgs);
+        String baseUrl = args.get("base-url", "http://localhost:8080");
+        int concurrency = args.getInt("concurrency", 500);
+        Duration duration = Duration.ofSeconds(args.getLong("duration-seconds", 30));
+        String adminAuth = basicAuth(args.get("admin-user", "admin@example.com"), args.get("admin-password", "admin123"));
+        String[] paths = args.get("paths", "/api/public/events,/api/public/reactive/events").split(",");
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-32s %12s %10s %12s %14s %14s",
+                "endpoint", "concurrency", "requests", "req/s", "errors", "peak threads"));
+        for (String path : paths) {
+            report.add(run(client, baseUrl, path.trim(), concurrency, duration, adminAuth));
+        }
+        report.forEach(System.out::println);
+        System.exit(0);
+    }
+
+    private static String run(HttpClient client, String baseUrl, String path, int concurrency,
+                              Duration duration, String adminAuth) throws Exception {
+        AtomicInteger peakThreads = new AtomicInteger();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            int threads = liveThreads(client, baseUrl, adminAuth);
+            peakThreads.accumulateAndGet(threads, Math::max);
+        }, 0, 200, TimeUnit.MILLISECONDS);
+
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept", path.contains("reactive") ? "application/x-ndjson" : "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        while (System.nanoTime() < deadline) {
+            inFlight.acquire();
+            CompletableFuture<HttpResponse<Void>> response =
+                    client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+            response.whenComplete((result, failure) -> {
+                if (failure != null || result.statusCode() >= 400) {
+                    errors.incrementAndGet();
+                }
+                completed.incrementAndGet();
+                inFlight.release();
+            });
+        }
+        inFlight.acquire(concurrency);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        sampler.shutdownNow();
+
+        return String.format("%-32s %12d %10d %12.1f %14d %14d",
+                path, concurrency, completed.get(), completed.get() / seconds, errors.get(), peakThreads.get());
+    }
+
+    private static int liveThreads(HttpClient client, String baseUrl, String adminAuth) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/jvm.threads.live"))
+                    .header("Authorization", adminAuth)
+                    .GET()
+                    .build();
+            JsonNode body = MAPPER.readTree(client.send(request, HttpResponse.BodyHandlers.ofString()).body());
+            return body.path("measurements").path(0).path("value").asInt();
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    static String basicAuth(String user, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,68 @@
+package com.eventify.benchmark;
+
+import com.eventify.config.JacksonConfig;
+import com.eventify.dto.EventResponseDto;
+import com.eventify.dto.RegistrationResponseDto;
+import com.eventify.model.Event;
+import com.eventify.model.Registration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-item cost of the response path: entity to DTO mapping and writing one DTO with the
+ * JacksonConfig ObjectMapper, the work done for every element of a listing.
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args=DtoMappingBenchmark</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Event event;
+    private Registration registration;
+    private EventResponseDto eventDto;
+    private RegistrationResponseDto registrationDto;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        event = BenchmarkData.events(1).get(0);
+        registration = BenchmarkData.registration(event);
+        eventDto = EventResponseDto.fromEvent(event, BenchmarkData.registrationCount(event));
+        registrationDto = RegistrationResponseDto.fromRegistration(registration, eventDto);
+    }
+
+    @Benchmark
+    public EventResponseDto eventFromEntity() {
+        return EventResponseDto.fromEvent(event, BenchmarkData.registrationCount(event));
+    }
+
+    @Benchmark
+    public RegistrationResponseDto registrationFromEntity() {
+        return RegistrationResponseDto.fromRegistration(registration, eventDto);
+    }
+
+    @Benchmark
+    public byte[] writeEvent() throws Exception {
+        return objectMapper.writeValueAsBytes(eventDto);
+    }
+
+    @Benchmark
+    public byte[] writeRegistration() throws Exception {
+        return objectMapper.writeValueAsBytes(registrationDto);
+    }
+
+    @Benchmark
+    public byte[] writeRegistrationList() throws Exception {
+        // The shape of GET /api/user/registrations for a user with a handful of registrations
+        return objectMapper.writeValueAsBytes(List.of(registrationDto, registrationDto, registrationDto));
+    }
+}
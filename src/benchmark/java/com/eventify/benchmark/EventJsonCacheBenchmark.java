@@ -0,0 +1,57 @@
+package com.eventify.benchmark;
+
+import com.eventify.cache.EventJsonCache;
+import com.eventify.config.JacksonConfig;
+import com.eventify.dto.EventResponseDto;
+import com.eventify.model.Event;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listing serialization: the JacksonConfig ObjectMapper writing EventResponseDto lists
+ * versus concatenating cached fragments from {@link EventJsonCache}.
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args=EventJsonCacheBenchmark</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventJsonCacheBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int eventCount;
+
+    private ObjectMapper objectMapper;
+    private EventJsonCache eventJsonCache;
+    private List<Event> events;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        eventJsonCache = new EventJsonCache(objectMapper, Set.of(EventJsonCache.PUBLIC_EVENTS), eventCount);
+        events = BenchmarkData.events(eventCount);
+        eventJsonCache.writeEvents(events, BenchmarkData::registrationCount);
+    }
+
+    @Benchmark
+    public byte[] objectMapper() throws Exception {
+        List<EventResponseDto> dtos = new ArrayList<>(events.size());
+        for (Event event : events) {
+            dtos.add(EventResponseDto.fromEvent(event, BenchmarkData.registrationCount(event)));
+        }
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+
+    @Benchmark
+    public byte[] cachedFragments() {
+        return eventJsonCache.writeEvents(events, BenchmarkData::registrationCount);
+    }
+}
@@ -0,0 +1,264 @@
+package com.eventify.benchmark;
+
+import com.eventify.EventifyApplication;
+import com.eventify.journal.RegistrationJournal;
+import com.eventify.model.Event;
+import com.eventify.model.User;
+import com.eventify.repository.EventRepository;
+import com.eventify.repository.RegistrationRepository;
+import com.eventify.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Flash sale: boots the application in-process on the test profile's H2 database, seeds one event
+ * with {@code --capacity} seats and {@code --users} users, and releases all of them at once against
+ * {@code POST /api/user/events/{id}/register} while {@code --browsers} clients keep loading
+ * {@code /api/public/events}. Reports throughput and latency percentiles per request type, a
+ * breakdown of every non-success response by its ErrorResponse status and message, and finally
+ * compares the stored registrations with the event's capacity. Exits with status 1 if the event
+ * is overbooked or a user holds two registrations for it.
+ * <p>
+ * Extra application properties, e.g. to try the registration journal or the concurrency limiter,
+ * go into {@code --properties} as a comma-separated list.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.eventify.benchmark.FlashSaleLoadTest \
+ *     -Dbenchmark.args="--users=5000 --capacity=500 --browsers=50"
+ * </pre>
+ */
+public class FlashSaleLoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] rawArgs) throws Exception {
+        HarnessArgs args = new HarnessArgs(rawArgs);
+        int users = args.getInt("users", 5_000);
+        int capacity = args.getInt("capacity", 500);
+        int browsers = args.getInt("browsers", 50);
+        int otherEvents = args.getInt("other-events", 200);
+
+        boolean consistent;
+        try (ConfigurableApplicationContext context = start(args)) {
+            long eventId = seed(context, users, capacity, otherEvents);
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+
+            Scenario register = new Scenario("register");
+            Scenario browse = new Scenario("browse");
+            AtomicBoolean saleRunning = new AtomicBoolean(true);
+            CountDownLatch go = new CountDownLatch(1);
+            long start;
+            double seconds;
+            try (ExecutorService browsing = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int b = 0; b < browsers; b++) {
+                    browsing.submit(() -> {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/public/events"))
+                                .timeout(Duration.ofSeconds(60))
+                                .GET()
+                                .build();
+                        go.await();
+                        while (saleRunning.get()) {
+                            browse.send(client, request, 200);
+                        }
+                        return null;
+                    });
+                }
+                try (ExecutorService racing = Executors.newVirtualThreadPerTaskExecutor()) {
+                    for (int u = 0; u < users; u++) {
+                        HttpRequest request = HttpRequest.newBuilder(
+                                        URI.create(baseUrl + "/api/user/events/" + eventId + "/register"))
+                                .header("Authorization", ConcurrencyLoadComparison.basicAuth(email(u), "password"))
+                                .timeout(Duration.ofSeconds(60))
+                                .POST(HttpRequest.BodyPublishers.noBody())
+                                .build();
+                        racing.submit(() -> {
+                            go.await();
+                            register.send(client, request, 201);
+                            return null;
+                        });
+                    }
+                    start = System.nanoTime();
+                    go.countDown();
+                }
+                seconds = (System.nanoTime() - start) / 1e9;
+                saleRunning.set(false);
+            }
+
+            List<String> report = new ArrayList<>();
+            report.add(String.format("%-10s %10s %10s %10s %10s %10s %10s %10s",
+                    "scenario", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "errors"));
+            report.add(register.summary(seconds));
+            report.add(browse.summary(seconds));
+            report.add("");
+            report.add("Responses other than the expected status:");
+            register.errors.forEach((key, count) -> report.add(String.format("  register %-60s %8d", key, count.sum())));
+            browse.errors.forEach((key, count) -> report.add(String.format("  browse   %-60s %8d", key, count.sum())));
+            report.add("");
+            consistent = checkCapacity(context, eventId, capacity, register.successes.sum(), report);
+            report.forEach(System.out::println);
+        }
+        System.exit(consistent ? 0 : 1);
+    }
+
+    private static ConfigurableApplicationContext start(HarnessArgs args) {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + args.getBoolean("virtual-threads", false),
+                "server.tomcat.threads.max=" + args.getInt("tomcat-threads", 200),
+                "spring.datasource.url=jdbc:h2:mem:flashsale;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                "spring.datasource.hikari.maximum-pool-size=" + args.getInt("pool-size", 10),
+                "logging.level.root=WARN",
+                "logging.level.com.eventify=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        String extra = args.get("properties", "");
+        if (!extra.isBlank()) {
+            properties.addAll(Arrays.asList(extra.split(",")));
+        }
+        // Otherwise devtools restarts main() without args and the run ignores every flag
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(EventifyApplication.class)
+                .profiles("test")
+                .properties(properties.toArray(String[]::new))
+                .run();
+    }
+
+    private static long seed(ConfigurableApplicationContext context, int users, int capacity, int otherEvents) {
+        List<User> seededUsers = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            User user = new User();
+            user.setName("Flash Sale User " + i);
+            user.setEmail(email(i));
+            user.setPassword("password");
+            user.setRole("ROLE_USER");
+            seededUsers.add(user);
+        }
+        context.getBean(UserRepository.class).saveAll(seededUsers);
+
+        // The sale event plus enough others that browsing renders a realistic listing
+        List<Event> events = new ArrayList<>(otherEvents + 1);
+        for (int i = 0; i <= otherEvents; i++) {
+            Event event = new Event();
+            event.setTitle(i == 0 ? "Flash Sale" : "Browsing Event " + i);
+            event.setDescription("Flash sale load test");
+            event.setLocation("Main Hall");
+            event.setDateTime(LocalDateTime.now().plusDays(30 + i));
+            event.setCapacity(i == 0 ? capacity : 1_000);
+            event.setOrganizerId(1L);
+            events.add(event);
+        }
+        return context.getBean(EventRepository.class).saveAll(events).get(0).getId();
+    }
+
+    private static boolean checkCapacity(ConfigurableApplicationContext context, long eventId, int capacity,
+                                         long accepted, List<String> report) {
+        RegistrationJournal journal = context.getBean(RegistrationJournal.class);
+        if (journal.isEnabled()) {
+            journal.flush();
+        }
+        long stored = context.getBean(RegistrationRepository.class).countByEventId(eventId);
+        Long duplicates = context.getBean(JdbcTemplate.class).queryForObject("""
+                SELECT COUNT(*) FROM (
+                    SELECT user_id FROM registrations WHERE event_id = ? GROUP BY user_id HAVING COUNT(*) > 1
+                ) d
+                """, Long.class, eventId);
+        report.add(String.format("capacity %d, accepted (201) %d, stored registrations %d, duplicate users %d",
+                capacity, accepted, stored, duplicates));
+        boolean consistent = stored <= capacity && duplicates == 0;
+        if (stored > capacity) {
+            report.add("OVERBOOKED by " + (stored - capacity));
+        }
+        if (stored != accepted) {
+            report.add("Stored registrations differ from accepted requests by " + (stored - accepted));
+        }
+        report.add(consistent ? "Capacity held" : "FAILED");
+        return consistent;
+    }
+
+    private static String email(int user) {
+        return "flash" + user + "@example.com";
+    }
+
+    private static final class Scenario {
+
+        private final String name;
+        private final List<Long> latencies = new ArrayList<>();
+        private final LongAdder successes = new LongAdder();
+        private final Map<String, LongAdder> errors = new ConcurrentSkipListMap<>();
+
+        Scenario(String name) {
+            this.name = name;
+        }
+
+        void send(HttpClient client, HttpRequest request, int expectedStatus) {
+            long sent = System.nanoTime();
+            String error = null;
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == expectedStatus) {
+                    successes.increment();
+                } else {
+                    error = describe(response);
+                }
+            } catch (Exception e) {
+                error = "client " + e.getClass().getSimpleName();
+            }
+            long latency = System.nanoTime() - sent;
+            synchronized (latencies) {
+                latencies.add(latency);
+            }
+            if (error != null) {
+                errors.computeIfAbsent(error, key -> new LongAdder()).increment();
+            }
+        }
+
+        // ErrorResponse bodies are grouped by status and message, anything else by status alone
+        private static String describe(HttpResponse<String> response) {
+            try {
+                JsonNode body = MAPPER.readTree(response.body());
+                if (body != null && body.has("status") && body.has("message")) {
+                    return body.path("status").asInt() + " " + body.path("message").asText();
+                }
+            } catch (Exception ignored) {
+                // Not JSON
+            }
+            return String.valueOf(response.statusCode());
+        }
+
+        String summary(double seconds) {
+            long[] sorted;
+            synchronized (latencies) {
+                sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            }
+            if (sorted.length == 0) {
+                return String.format("%-10s %10d", name, 0);
+            }
+            long failed = errors.values().stream().mapToLong(LongAdder::sum).sum();
+            return String.format("%-10s %10d %10.1f %10.1f %10.1f %10.1f %10.1f %10d",
+                    name, sorted.length, sorted.length / seconds,
+                    sorted[sorted.length / 2] / 1e6, sorted[(int) (sorted.length * 0.90)] / 1e6,
+                    sorted[(int) (sorted.length * 0.99)] / 1e6, sorted[sorted.length - 1] / 1e6, failed);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.eventify.benchmark;
+
+import com.eventify.EventifyApplication;
+import com.eventify.repository.EventRepository;
+import com.eventify.repository.RegistrationRepository;
+import com.eventify.service.EventService;
+import com.eventify.service.RegistrationService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongFunction;
+
+/**
+ * Seeds users, events and registrations into H2 in PostgreSQL mode, with the Flyway schema and
+ * indexes, and times repository methods and the service calls built on them. Reports latency
+ * percentiles, SQL statements and rows per call. The second-level and query caches are off by
+ * default so every call reaches the database; pass {@code --second-level-cache=true} to measure
+ * the cached path instead.
+ * <p>
+ * Registrations are spread evenly over events, and each user holds at most one per event. With
+ * a file URL ({@code --jdbc-url=jdbc:h2:file:./target/persistence-bench;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE})
+ * a database seeded with the same volumes is reused by the next run.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.eventify.benchmark.PersistenceBenchmark \
+ *     -Dbenchmark.args="--users=1000000 --events=100000 --registrations=20000000" -Dbenchmark.jvmArgs=-Xmx16g
+ * </pre>
+ */
+public class PersistenceBenchmark {
+
+    private static final int SEED_BATCH = 500_000;
+    // Spreads each event's registrations over the user range instead of the first few users
+    private static final long USER_STRIDE = 7_919;
+
+    public static void main(String[] rawArgs) {
+        HarnessArgs args = new HarnessArgs(rawArgs);
+        long users = args.getLong("users", 100_000);
+        long events = args.getLong("events", 10_000);
+        long registrations = args.getLong("registrations", 1_000_000);
+        int samples = args.getInt("samples", 2_000);
+        int warmup = args.getInt("warmup", 500);
+        if (registrations > users * events) {
+            throw new IllegalArgumentException("--registrations cannot exceed users * events");
+        }
+
+        try (ConfigurableApplicationContext context = start(args)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            long seedStart = System.nanoTime();
+            boolean seeded = seed(jdbcTemplate, users, events, registrations);
+            System.out.printf("%s %,d users, %,d events, %,d registrations in %.1f s%n",
+                    seeded ? "Seeded" : "Reused", users, events, registrations, (System.nanoTime() - seedStart) / 1e9);
+
+            Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            EventRepository eventRepository = context.getBean(EventRepository.class);
+            RegistrationRepository registrationRepository = context.getBean(RegistrationRepository.class);
+            EventService eventService = context.getBean(EventService.class);
+            RegistrationService registrationService = context.getBean(RegistrationService.class);
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+
+            List<Case> cases = List.of(
+                    new Case("RegistrationRepository.countByEventId", events, registrationRepository::countByEventId),
+                    new Case("RegistrationRepository.findByUserId", users, registrationRepository::findByUserId),
+                    new Case("EventRepository.findByDateTimeAfterOrderByDateTimeAsc", events,
+                            id -> eventRepository.findByDateTimeAfterOrderByDateTimeAsc(now)),
+                    new Case("RegistrationService.getRegistrationCount", events, registrationService::getRegistrationCount),
+                    new Case("RegistrationService.isEventAtCapacity", events, registrationService::isEventAtCapacity),
+                    new Case("RegistrationService.getUserRegistrations", users, registrationService::getUserRegistrations),
+                    new Case("RegistrationService.getRegisteredEventIds", users, registrationService::getRegisteredEventIds),
+                    new Case("EventService.getUpcomingEvents", events, id -> eventService.getUpcomingEvents()));
+
+            List<String> report = new ArrayList<>();
+            report.add(String.format("%-56s %10s %10s %10s %10s %10s %9s %11s",
+                    "operation", "mean ms", "p50 ms", "p90 ms", "p99 ms", "max ms", "queries", "rows"));
+            Random random = new Random(42);
+            for (Case benchmarkCase : cases) {
+                // Fewer samples for listings that return a large part of a table
+                int caseSamples = benchmarkCase.name.contains("UpcomingEvents") || benchmarkCase.name.contains("DateTimeAfter")
+                        ? Math.max(10, samples / 20) : samples;
+                report.add(benchmarkCase.run(statistics, random, Math.min(warmup, caseSamples), caseSamples));
+            }
+            report.forEach(System.out::println);
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext start(HarnessArgs args) {
+        boolean cached = args.getBoolean("second-level-cache", false);
+        // Devtools checks this before property sources; its restart would drop the args
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(EventifyApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + args.get("jdbc-url",
+                                "jdbc:h2:mem:persistence;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE"),
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=" + cached,
+                        "spring.jpa.properties.hibernate.cache.use_query_cache=" + cached,
+                        "logging.level.root=WARN",
+                        "logging.level.com.eventify=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run();
+    }
+
+    /**
+     * Bulk inserts with {@code SYSTEM_RANGE} so tens of millions of rows take minutes, not hours.
+     * Events are spread from a year in the past to a year ahead.
+     */
+    private static boolean seed(JdbcTemplate jdbcTemplate, long users, long events, long registrations) {
+        if (count(jdbcTemplate, "users") == users && count(jdbcTemplate, "events") == events
+                && count(jdbcTemplate, "registrations") == registrations) {
+            return false;
+        }
+        jdbcTemplate.update("DELETE FROM registrations");
+        jdbcTemplate.update("DELETE FROM events");
+        jdbcTemplate.update("DELETE FROM users");
+
+        for (long from = 1; from <= users; from += SEED_BATCH) {
+            jdbcTemplate.update("""
+                    INSERT INTO users (id, name, email, password, role)
+                    SELECT x, 'User ' || x, 'user' || x || '@example.com', 'password', 'ROLE_USER'
+                    FROM SYSTEM_RANGE(?, ?)
+                    """, from, Math.min(users, from + SEED_BATCH - 1));
+        }
+        long minutesApart = Math.max(1, 2 * 365 * 24 * 60 / events);
+        LocalDateTime firstEvent = LocalDateTime.now().minusDays(365);
+        for (long from = 1; from <= events; from += SEED_BATCH) {
+            jdbcTemplate.update("""
+                    INSERT INTO events (id, title, description, location, date_time, capacity, organizer_id, version)
+                    SELECT x, 'Event ' || x, 'Seeded by PersistenceBenchmark', 'Hall ' || MOD(x, 12),
+                           DATEADD(MINUTE, x * ?, CAST(? AS TIMESTAMP)), ?, MOD(x, 1000) + 1, 0
+                    FROM SYSTEM_RANGE(?, ?)
+                    """, minutesApart, firstEvent, registrations / events + 1, from, Math.min(events, from + SEED_BATCH - 1));
+        }
+        // Registration x goes to event x % events, for the (x / events)-th user after that event's offset
+        for (long from = 0; from < registrations; from += SEED_BATCH) {
+            jdbcTemplate.update("""
+                    INSERT INTO registrations (id, user_id, event_id, registered_at, status)
+                    SELECT x + 1, MOD(x / ? + MOD(x, ?) * ?, ?) + 1, MOD(x, ?) + 1, CAST(? AS TIMESTAMP), 'CONFIRMED'
+                    FROM SYSTEM_RANGE(?, ?)
+                    """, events, events, USER_STRIDE, users, events, firstEvent,
+                    from, Math.min(registrations, from + SEED_BATCH) - 1);
+        }
+        // Explicit ids leave the identity columns behind; later inserts must not collide
+        jdbcTemplate.execute("ALTER TABLE users ALTER COLUMN id RESTART WITH " + (users + 1));
+        jdbcTemplate.execute("ALTER TABLE events ALTER COLUMN id RESTART WITH " + (events + 1));
+        jdbcTemplate.execute("ALTER TABLE registrations ALTER COLUMN id RESTART WITH " + (registrations + 1));
+        jdbcTemplate.execute("ANALYZE");
+        return true;
+    }
+
+    private static long count(JdbcTemplate jdbcTemplate, String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count != null ? count : 0;
+    }
+
+    private record Case(String name, long idRange, LongFunction<Object> operation) {
+
+        String run(Statistics statistics, Random random, int warmup, int samples) {
+            for (int i = 0; i < warmup; i++) {
+                operation.apply(1 + (long) (random.nextDouble() * idRange));
+            }
+            long[] latencies = new long[samples];
+            long rows = 0;
+            long statementsBefore = statistics.getPrepareStatementCount();
+            for (int i = 0; i < samples; i++) {
+                long id = 1 + (long) (random.nextDouble() * idRange);
+                long start = System.nanoTime();
+                Object result = operation.apply(id);
+                latencies[i] = System.nanoTime() - start;
+                rows += result instanceof Collection<?> collection ? collection.size() : 1;
+            }
+            double queries = (double) (statistics.getPrepareStatementCount() - statementsBefore) / samples;
+
+            Arrays.sort(latencies);
+            double mean = Arrays.stream(latencies).average().orElse(0);
+            return String.format("%-56s %10.3f %10.3f %10.3f %10.3f %10.3f %9.2f %11.1f",
+                    name, mean / 1e6, percentile(latencies, 0.50), percentile(latencies, 0.90),
+                    percentile(latencies, 0.99), latencies[samples - 1] / 1e6, queries, (double) rows / samples);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            return sorted[Math.min(sorted.length - 1, (int) (sorted.length * quantile))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package com.eventify.benchmark;
+
+import com.eventify.EventifyApplication;
+import com.eventify.cache.AvailabilityCounterCache;
+import com.eventify.dto.EventAvailability;
+import com.eventify.journal.RegistrationJournal;
+import com.eventify.model.Event;
+import com.eventify.model.User;
+import com.eventify.repository.EventRepository;
+import com.eventify.repository.RegistrationRepository;
+import com.eventify.repository.UserRepository;
+import com.eventify.service.AvailabilityService;
+import com.eventify.service.EventService;
+import com.eventify.service.RegistrationService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives RegistrationService, the capacity check and event updates from many threads against the
+ * test profile's H2 database, then checks the invariants a faster registration path must keep:
+ * <ul>
+ *     <li>no event holds more registrations than its capacity;</li>
+ *     <li>no user holds two registrations for the same event;</li>
+ *     <li>availability reloaded from the database after evicting the counters matches {@code countByEventId}.</li>
+ * </ul>
+ * The counters as served at the end of the run may drift within their TTL by design (see
+ * {@code AvailabilityCounterCache}), so that drift is reported but not treated as a violation.
+ * <p>
+ * Each thread picks registrations, cancellations, capacity edits and availability reads from its own
+ * {@code Random} seeded with {@code --seed} plus its index, with up to {@code --jitter-micros} of
+ * random pause between steps. Re-running with the same seed repeats each thread's sequence of
+ * operations, not how the threads interleave, so a failure is not guaranteed to recur. Capacity
+ * edits only ever add seats, which keeps the final capacity the highest one the event had. Reports
+ * operations per second by type and exits with status 1 if an invariant is broken.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.eventify.benchmark.RegistrationStressTest \
+ *     -Dbenchmark.args="--threads=32 --duration-seconds=30 --events=20 --users=500 --capacity=25"
+ * </pre>
+ */
+public class RegistrationStressTest {
+
+    private enum Operation {REGISTER, CANCEL, EDIT_CAPACITY, READ_AVAILABILITY}
+
+    public static void main(String[] rawArgs) throws Exception {
+        HarnessArgs args = new HarnessArgs(rawArgs);
+        int threads = args.getInt("threads", 32);
+        Duration duration = Duration.ofSeconds(args.getLong("duration-seconds", 30));
+        int eventCount = args.getInt("events", 20);
+        int userCount = args.getInt("users", 500);
+        int capacity = args.getInt("capacity", 25);
+        long seed = args.getLong("seed", System.nanoTime());
+        int jitterMicros = args.getInt("jitter-micros", 50);
+
+        List<String> violations;
+        try (ConfigurableApplicationContext context = start(args)) {
+            List<Long> userIds = seedUsers(context, userCount);
+            List<Long> eventIds = seedEvents(context, eventCount, capacity);
+            System.out.printf("Seed %d, %d threads for %d s on %d events x %d users, capacity %d%n",
+                    seed, threads, duration.toSeconds(), eventCount, userCount, capacity);
+
+            Stats stats = new Stats();
+            long deadline = System.nanoTime() + duration.toNanos();
+            CountDownLatch go = new CountDownLatch(1);
+            long start = System.nanoTime();
+            List<Future<?>> results = new ArrayList<>(threads);
+            try (ExecutorService workers = Executors.newFixedThreadPool(threads)) {
+                for (int t = 0; t < threads; t++) {
+                    Random random = new Random(seed + t);
+                    results.add(workers.submit(() -> {
+                        go.await();
+                        while (System.nanoTime() < deadline) {
+                            step(context, random, userIds, eventIds, stats);
+                            if (jitterMicros > 0) {
+                                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(random.nextInt(jitterMicros)));
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                go.countDown();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            // A worker that threw stopped early, so the run did not exercise what it reports
+            for (Future<?> result : results) {
+                result.get();
+            }
+
+            stats.report(seconds).forEach(System.out::println);
+            violations = checkInvariants(context, eventIds);
+        }
+        if (violations.isEmpty()) {
+            System.out.println("All invariants held");
+        } else {
+            violations.forEach(violation -> System.out.println("VIOLATION " + violation));
+        }
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    private static ConfigurableApplicationContext start(HarnessArgs args) {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:stress;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                "spring.datasource.hikari.maximum-pool-size=" + args.getInt("pool-size", 20),
+                // Long enough that drift from the run is still visible when it is reported
+                "eventify.availability.counter.enabled=true",
+                "eventify.availability.counter.ttl=1h",
+                "logging.level.root=WARN",
+                "logging.level.com.eventify=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        String extra = args.get("properties", "");
+        if (!extra.isBlank()) {
+            properties.addAll(Arrays.asList(extra.split(",")));
+        }
+        // Read by devtools before any property source, when it decides whether to relaunch main() without the args
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(EventifyApplication.class)
+                .profiles("test")
+                .properties(properties.toArray(String[]::new))
+                .run();
+    }
+
+    private static List<Long> seedUsers(ConfigurableApplicationContext context, int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setName("Stress User " + i);
+            user.setEmail("stress" + i + "@example.com");
+            user.setPassword("password");
+            user.setRole("ROLE_USER");
+            users.add(user);
+        }
+        return context.getBean(UserRepository.class).saveAll(users).stream().map(User::getId).toList();
+    }
+
+    private static List<Long> seedEvents(ConfigurableApplicationContext context, int count, int capacity) {
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Event event = new Event();
+            event.setTitle("Stress Event " + i);
+            event.setDescription("Registration stress test");
+            event.setLocation("Main Hall");
+            event.setDateTime(LocalDateTime.now().plusDays(30));
+            event.setCapacity(capacity);
+            event.setOrganizerId(1L);
+            events.add(event);
+        }
+        return context.getBean(EventRepository.class).saveAll(events).stream().map(Event::getId).toList();
+    }
+
+    private static void step(ConfigurableApplicationContext context, Random random,
+                             List<Long> userIds, List<Long> eventIds, Stats stats) {
+        RegistrationService registrationService = context.getBean(RegistrationService.class);
+        Long userId = userIds.get(random.nextInt(userIds.size()));
+        Long eventId = eventIds.get(random.nextInt(eventIds.size()));
+        int roll = random.nextInt(100);
+        Operation operation = roll < 50 ? Operation.REGISTER
+                : roll < 70 ? Operation.CANCEL
+                : roll < 75 ? Operation.EDIT_CAPACITY
+                : Operation.READ_AVAILABILITY;
+
+        long started = System.nanoTime();
+        switch (operation) {
+            // The same checks, in the same order, as UserController.registerForEvent
+            case REGISTER -> {
+                if (registrationService.isUserRegisteredForEvent(userId, eventId)) {
+                    stats.outcome("register: already registered");
+                } else if (registrationService.isEventAtCapacity(eventId)) {
+                    stats.outcome("register: at capacity");
+                } else {
+                    try {
+                        registrationService.registerUserForEvent(userId, eventId);
+                        stats.outcome("register: registered");
+                    } catch (DataIntegrityViolationException e) {
+                        stats.outcome("register: rejected by unique index");
+                    }
+                }
+            }
+            case CANCEL -> {
+                try {
+                    registrationService.cancelRegistrationByUserAndEvent(userId, eventId);
+                    stats.outcome("cancel: done");
+                } catch (ObjectOptimisticLockingFailureException e) {
+                    // Another thread deleted the same registration between the lookup and the delete
+                    stats.outcome("cancel: cancelled concurrently");
+                }
+            }
+            case EDIT_CAPACITY -> {
+                EventService eventService = context.getBean(EventService.class);
+                try {
+                    eventService.getEventById(eventId).ifPresent(event -> {
+                        event.setCapacity(event.getCapacity() + random.nextInt(3));
+                        eventService.updateEvent(event);
+                    });
+                    stats.outcome("edit capacity: saved");
+                } catch (ObjectOptimisticLockingFailureException e) {
+                    stats.outcome("edit capacity: version conflict");
+                }
+            }
+            case READ_AVAILABILITY -> {
+                List<Long> ids = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                    ids.add(eventIds.get(random.nextInt(eventIds.size())));
+                }
+                context.getBean(AvailabilityService.class).getAvailability(ids);
+                stats.outcome("read availability: done");
+            }
+        }
+        stats.record(operation, System.nanoTime() - started);
+    }
+
+    private static List<String> checkInvariants(ConfigurableApplicationContext context, List<Long> eventIds)
+            throws InterruptedException {
+        RegistrationJournal journal = context.getBean(RegistrationJournal.class);
+        if (journal.isEnabled()) {
+            journal.flush();
+        }
+        awaitDomainEvents(context.getBean(MeterRegistry.class));
+
+        List<String> violations = new ArrayList<>();
+        RegistrationRepository registrationRepository = context.getBean(RegistrationRepository.class);
+        EventRepository eventRepository = context.getBean(EventRepository.class);
+        AvailabilityService availabilityService = context.getBean(AvailabilityService.class);
+        Map<Long, EventAvailability> served = availability(availabilityService, eventIds);
+        AvailabilityCounterCache counterCache = context.getBean(AvailabilityCounterCache.class);
+        eventIds.forEach(counterCache::evict);
+        Map<Long, EventAvailability> reloaded = availability(availabilityService, eventIds);
+
+        long total = 0;
+        int drifted = 0;
+        for (Long eventId : eventIds) {
+            long stored = registrationRepository.countByEventId(eventId);
+            int capacity = eventRepository.findById(eventId).orElseThrow().getCapacity();
+            total += stored;
+            if (stored > capacity) {
+                violations.add("event " + eventId + " overbooked: " + stored + " registrations for capacity " + capacity);
+            }
+            EventAvailability counter = reloaded.get(eventId);
+            if (!matches(counter, stored, capacity)) {
+                violations.add("event " + eventId + " reloaded availability " + counter + " differs from "
+                        + stored + " registrations / capacity " + capacity);
+            }
+            if (!matches(served.get(eventId), stored, capacity)) {
+                drifted++;
+            }
+        }
+        Long duplicates = context.getBean(JdbcTemplate.class).queryForObject("""
+                SELECT COUNT(*) FROM (
+                    SELECT user_id, event_id FROM registrations GROUP BY user_id, event_id HAVING COUNT(*) > 1
+                ) d
+                """, Long.class);
+        if (duplicates != null && duplicates > 0) {
+            violations.add(duplicates + " (user, event) pairs registered more than once");
+        }
+        System.out.printf("%d registrations stored across %d events%n", total, eventIds.size());
+        if (drifted > 0) {
+            System.out.printf("%d counters had drifted before eviction (healed within the counter TTL)%n", drifted);
+        }
+        return violations;
+    }
+
+    private static Map<Long, EventAvailability> availability(AvailabilityService availabilityService, List<Long> eventIds) {
+        Map<Long, EventAvailability> byEvent = new HashMap<>();
+        availabilityService.getAvailability(eventIds)
+                .forEach(availability -> byEvent.put(availability.getEventId(), availability));
+        return byEvent;
+    }
+
+    private static boolean matches(EventAvailability availability, long stored, int capacity) {
+        return availability != null && availability.getRegistrationCount() == stored
+                && availability.getCapacity() == capacity;
+    }
+
+    private static void awaitDomainEvents(MeterRegistry registry) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (System.nanoTime() < deadline) {
+            double lag = registry.find("eventify.domain-events.lag").gauges().stream()
+                    .mapToDouble(Gauge::value)
+                    .sum();
+            if (lag == 0) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        System.out.println("Domain events still pending after 30 s, counters may lag");
+    }
+
+    private static final class Stats {
+
+        private final Map<Operation, LongAdder> counts = new EnumMap<>(Operation.class);
+        private final Map<Operation, LongAdder> nanos = new EnumMap<>(Operation.class);
+        private final Map<String, LongAdder> outcomes = new ConcurrentSkipListMap<>();
+
+        Stats() {
+            for (Operation operation : Operation.values()) {
+                counts.put(operation, new LongAdder());
+                nanos.put(operation, new LongAdder());
+            }
+        }
+
+        void record(Operation operation, long elapsedNanos) {
+            counts.get(operation).increment();
+            nanos.get(operation).add(elapsedNanos);
+        }
+
+        void outcome(String outcome) {
+            outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        }
+
+        List<String> report(double seconds) {
+            List<String> lines = new ArrayList<>();
+            lines.add(String.format("%-20s %10s %10s %10s", "operation", "count", "ops/s", "mean ms"));
+            long total = 0;
+            for (Operation operation : Operation.values()) {
+                long count = counts.get(operation).sum();
+                total += count;
+                lines.add(String.format("%-20s %10d %10.1f %10.3f", operation.name().toLowerCase(Locale.ROOT), count,
+                        count / seconds, count > 0 ? nanos.get(operation).sum() / 1e6 / count : 0));
+            }
+            lines.add(String.format("%-20s %10d %10.1f", "total", total, total / seconds));
+            lines.add("");
+            outcomes.forEach((outcome, count) -> lines.add(String.format("  %-40s %10d", outcome, count.sum())));
+            lines.add("");
+            return lines;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.eventify.benchmark;
+
+import com.eventify.config.JacksonConfig;
+import com.eventify.dto.EventResponseDto;
+import com.eventify.dto.RegistrationResponseDto;
+import com.eventify.model.Event;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization and parsing time of JSON, Smile and CBOR for the listing DTOs.
+ * Payload sizes are printed once per trial.
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args=SerializationFormatBenchmark</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationFormatBenchmark {
+
+    private static final TypeReference<List<EventResponseDto>> EVENT_LIST = new TypeReference<>() {
+    };
+    private static final TypeReference<List<RegistrationResponseDto>> REGISTRATION_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"100"})
+    private int size;
+
+    private ObjectMapper mapper;
+    private List<EventResponseDto> events;
+    private List<RegistrationResponseDto> registrations;
+    private byte[] eventBytes;
+    private byte[] registrationBytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        JacksonConfig jacksonConfig = new JacksonConfig();
+        mapper = switch (format) {
+            case "smile" -> jacksonConfig.smileMapper();
+            case "cbor" -> jacksonConfig.cborMapper();
+            default -> jacksonConfig.objectMapper();
+        };
+
+        events = new ArrayList<>(size);
+        registrations = new ArrayList<>(size);
+        for (Event event : BenchmarkData.events(size)) {
+            EventResponseDto eventDto = EventResponseDto.fromEvent(event, BenchmarkData.registrationCount(event));
+            events.add(eventDto);
+            registrations.add(RegistrationResponseDto.fromRegistration(BenchmarkData.registration(event), eventDto));
+        }
+
+        eventBytes = mapper.writeValueAsBytes(events);
+        registrationBytes = mapper.writeValueAsBytes(registrations);
+        System.out.printf("%n[%s] %d events: %d bytes, %d registrations: %d bytes%n",
+                format, size, eventBytes.length, size, registrationBytes.length);
+    }
+
+    @Benchmark
+    public byte[] writeEvents() throws Exception {
+        return mapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public List<EventResponseDto> readEvents() throws Exception {
+        return mapper.readValue(eventBytes, EVENT_LIST);
+    }
+
+    @Benchmark
+    public byte[] writeRegistrations() throws Exception {
+        return mapper.writeValueAsBytes(registrations);
+    }
+
+    @Benchmark
+    public List<RegistrationResponseDto> readRegistrations() throws Exception {
+        return mapper.readValue(registrationBytes, REGISTRATION_LIST);
+    }
+}
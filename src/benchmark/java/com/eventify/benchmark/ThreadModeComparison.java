@@ -0,0 +1,160 @@
+package com.eventify.benchmark;
+
+import com.eventify.EventifyApplication;
+import com.eventify.model.Event;
+import com.eventify.model.User;
+import com.eventify.repository.EventRepository;
+import com.eventify.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Boots the application in-process once with platform threads and once with virtual threads
+ * and drives the same {@code POST /api/user/events/{id}/register} load through each,
+ * reporting throughput and latency percentiles. Runs on the test profile's H2 database by
+ * default; pass {@code --jdbc-url} (plus user/password) to measure against PostgreSQL, where
+ * the JDBC waits that virtual threads help with are real.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.eventify.benchmark.ThreadModeComparison \
+ *     -Dbenchmark.args="--concurrency=400 --requests=20000 --tomcat-threads=50"
+ * </pre>
+ */
+public class ThreadModeComparison {
+
+    public static void main(String[] rawArgs) throws Exception {
+        HarnessArgs args = new HarnessArgs(rawArgs);
+        int concurrency = args.getInt("concurrency", 400);
+        int requests = args.getInt("requests", 20_000);
+        int events = args.getInt("events", 20);
+        int users = (requests + events - 1) / events;
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-10s %12s %10s %12s %10s %10s %10s",
+                "mode", "concurrency", "requests", "req/s", "p50 ms", "p99 ms", "errors"));
+        for (boolean virtual : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = start(args, virtual)) {
+                List<Long> eventIds = seed(context, users, events);
+                report.add(drive(context, virtual ? "virtual" : "platform", concurrency, requests, users, eventIds));
+            }
+        }
+        report.forEach(System.out::println);
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext start(HarnessArgs args, boolean virtual) {
+        String mode = virtual ? "virtual" : "platform";
+        String jdbcUrl = args.get("jdbc-url",
+                "jdbc:h2:mem:threadmode_" + mode + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE");
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + virtual,
+                "server.tomcat.threads.max=" + args.getInt("tomcat-threads", 50),
+                "spring.datasource.url=" + jdbcUrl,
+                "spring.datasource.username=" + args.get("jdbc-user", "sa"),
+                "spring.datasource.password=" + args.get("jdbc-password", ""),
+                "spring.datasource.hikari.maximum-pool-size=" + args.getInt("pool-size", 10),
+                "logging.level.root=WARN",
+                "logging.level.com.eventify=WARN"));
+        if (jdbcUrl.startsWith("jdbc:postgresql")) {
+            properties.add("spring.datasource.driverClassName=org.postgresql.Driver");
+            properties.add("spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect");
+        }
+        // Keeps devtools from relaunching main() without the args
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(EventifyApplication.class)
+                .profiles("test")
+                .properties(properties.toArray(String[]::new))
+                .run();
+    }
+
+    private static List<Long> seed(ConfigurableApplicationContext context, int users, int events) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        EventRepository eventRepository = context.getBean(EventRepository.class);
+
+        List<User> seededUsers = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            User user = new User();
+            user.setName("Load User " + i);
+            user.setEmail(email(i));
+            user.setPassword("password");
+            user.setRole("ROLE_USER");
+            seededUsers.add(user);
+        }
+        userRepository.saveAll(seededUsers);
+
+        List<Event> seededEvents = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            Event event = new Event();
+            event.setTitle("Load Event " + i);
+            event.setDescription("Thread mode comparison");
+            event.setLocation("Main Hall");
+            event.setDateTime(LocalDateTime.now().plusDays(30));
+            event.setCapacity(users);
+            event.setOrganizerId(1L);
+            seededEvents.add(event);
+        }
+        return eventRepository.saveAll(seededEvents).stream().map(Event::getId).toList();
+    }
+
+    private static String drive(ConfigurableApplicationContext context, String mode, int concurrency,
+                                int requests, int users, List<Long> eventIds) throws InterruptedException {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        AtomicInteger next = new AtomicInteger();
+        AtomicLong errors = new AtomicLong();
+        long[] latencies = new long[requests];
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                clients.submit(() -> {
+                    for (int k = next.getAndIncrement(); k < requests; k = next.getAndIncrement()) {
+                        int user = k % users;
+                        long eventId = eventIds.get(k / users);
+                        HttpRequest request = HttpRequest.newBuilder(
+                                        URI.create("http://localhost:" + port + "/api/user/events/" + eventId + "/register"))
+                                .header("Authorization", ConcurrencyLoadComparison.basicAuth(email(user), "password"))
+                                .timeout(Duration.ofSeconds(60))
+                                .POST(HttpRequest.BodyPublishers.noBody())
+                                .build();
+                        long sent = System.nanoTime();
+                        try {
+                            if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 201) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[k] = System.nanoTime() - sent;
+                    }
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Arrays.sort(latencies);
+        return String.format("%-10s %12d %10d %12.1f %10.1f %10.1f %10d",
+                mode, concurrency, requests, requests / seconds,
+                latencies[requests / 2] / 1e6, latencies[(int) (requests * 0.99)] / 1e6, errors.get());
+    }
+
+    private static String email(int user) {
+        return "load" + user + "@example.com";
+    }
+}
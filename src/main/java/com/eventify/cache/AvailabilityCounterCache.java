@@ -0,0 +1,87 @@
+package com.eventify.cache;
+
+import com.eventify.domain.DomainEvent;
+import com.eventify.domain.DomainEventConsumer;
+import com.eventify.domain.EventDeleted;
+import com.eventify.domain.EventUpdated;
+import com.eventify.domain.RegistrationCancelled;
+import com.eventify.domain.RegistrationCreated;
+import com.eventify.dto.EventAvailability;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory registration counters per event, adjusted in place from the domain events of each
+ * committed registration or cancellation. Entries expire a fixed time after they were loaded from
+ * the database, regardless of adjustments, so any drift (e.g. an adjustment racing a load,
+ * a redelivered event, or a write from another node) heals within one TTL.
+ */
+@Component
+public class AvailabilityCounterCache implements DomainEventConsumer {
+
+    private final boolean enabled;
+    private final Cache<Long, EventAvailability> counters;
+
+    public AvailabilityCounterCache(@Value("${eventify.availability.counter.enabled:false}") boolean enabled,
+                                    @Value("${eventify.availability.counter.ttl:5s}") Duration ttl,
+                                    @Value("${eventify.availability.counter.max-entries:50000}") long maxEntries) {
+        this.enabled = enabled;
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(Expiry.<Long, EventAvailability>creating((eventId, availability) -> ttl))
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Map<Long, EventAvailability> getAllPresent(Collection<Long> eventIds) {
+        return counters.getAllPresent(eventIds);
+    }
+
+    public void put(EventAvailability availability) {
+        if (enabled) {
+            counters.put(availability.getEventId(), availability);
+        }
+    }
+
+    public void adjust(Long eventId, long delta) {
+        if (enabled) {
+            counters.asMap().computeIfPresent(eventId, (id, availability) ->
+                    new EventAvailability(id, availability.getCapacity(), availability.getRegistrationCount() + delta));
+        }
+    }
+
+    public void evict(Long eventId) {
+        if (enabled) {
+            counters.invalidate(eventId);
+        }
+    }
+
+    @Override
+    public String consumerName() {
+        return "availability-counters";
+    }
+
+    @Override
+    public void onDomainEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            switch (event) {
+                case RegistrationCreated created -> adjust(created.eventId(), 1);
+                case RegistrationCancelled cancelled -> adjust(cancelled.eventId(), -1);
+                // Capacity may have changed, or the event is gone
+                case EventUpdated updated -> evict(updated.eventId());
+                case EventDeleted deleted -> evict(deleted.eventId());
+            }
+        }
+    }
+}
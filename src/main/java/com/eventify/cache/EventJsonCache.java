@@ -0,0 +1,205 @@
+package com.eventify.cache;
+
+import com.eventify.config.JacksonConfig;
+import com.eventify.domain.DomainEvent;
+import com.eventify.domain.DomainEventConsumer;
+import com.eventify.domain.EventDeleted;
+import com.eventify.domain.EventUpdated;
+import com.eventify.dto.EventResponseDto;
+import com.eventify.model.Event;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Caches each event's serialized {@link EventResponseDto} JSON, minus the trailing
+ * {@code availableSpots} and {@code registered} fields, so listings can be written by
+ * concatenating fragments and only formatting the per-request values fresh. Output is byte-identical to serializing
+ * the DTO list with the application {@link ObjectMapper}.
+ */
+@Component
+public class EventJsonCache implements DomainEventConsumer {
+
+    public static final String PUBLIC_EVENTS = "public-events";
+    public static final String ORGANIZER_EVENTS = "organizer-events";
+
+    private static final byte[] AVAILABLE_SPOTS_FIELD = ",\"availableSpots\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] REGISTERED_FIELD = ",\"registered\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final int ESTIMATED_FRAGMENT_SIZE = 256;
+
+    private final ObjectMapper objectMapper;
+    private final Set<String> enabledEndpoints;
+    private final int maxEntries;
+    private final Map<Long, Fragment> fragments = new ConcurrentHashMap<>();
+
+    public EventJsonCache(ObjectMapper objectMapper,
+                          @Value("${eventify.json-cache.endpoints:}") Set<String> enabledEndpoints,
+                          @Value("${eventify.json-cache.max-entries:10000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.enabledEndpoints = enabledEndpoints;
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean isEnabledFor(String endpoint) {
+        return enabledEndpoints.contains(endpoint);
+    }
+
+    /**
+     * Like {@link #isEnabledFor(String)}, but only when the client's preferred format is JSON,
+     * so binary (Smile/CBOR) requests fall back to regular content negotiation.
+     */
+    public boolean isEnabledFor(String endpoint, String acceptHeader) {
+        return isEnabledFor(endpoint) && prefersJson(acceptHeader);
+    }
+
+    public byte[] writeEvents(List<Event> events, ToLongFunction<Event> registrationCount) {
+        return writeEvents(events, registrationCount, null);
+    }
+
+    /**
+     * @param registeredEventIds the caller's registrations, or {@code null} for anonymous callers,
+     *                           in which case the {@code registered} flag is left out
+     */
+    public byte[] writeEvents(List<Event> events, ToLongFunction<Event> registrationCount, Set<Long> registeredEventIds) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + events.size() * ESTIMATED_FRAGMENT_SIZE);
+        out.write('[');
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(fragmentFor(event));
+            out.writeBytes(AVAILABLE_SPOTS_FIELD);
+            if (event.getCapacity() != null) {
+                long availableSpots = event.getCapacity() - registrationCount.applyAsLong(event);
+                out.writeBytes(Long.toString(availableSpots).getBytes(StandardCharsets.US_ASCII));
+            } else {
+                out.writeBytes(NULL);
+            }
+            if (registeredEventIds != null) {
+                out.writeBytes(REGISTERED_FIELD);
+                out.writeBytes(registeredEventIds.contains(event.getId()) ? TRUE : FALSE);
+            }
+            out.write('}');
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    public void evict(Long eventId) {
+        fragments.remove(eventId);
+    }
+
+    @Override
+    public String consumerName() {
+        return "event-json-cache";
+    }
+
+    // Fragments are validated on read, so this only frees memory held for changed or deleted events
+    @Override
+    public void onDomainEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (event instanceof EventUpdated || event instanceof EventDeleted) {
+                evict(event.eventId());
+            }
+        }
+    }
+
+    private static boolean prefersJson(String acceptHeader) {
+        if (!StringUtils.hasText(acceptHeader)) {
+            return true;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = new ArrayList<>(MediaType.parseMediaTypes(acceptHeader));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        if (mediaTypes.isEmpty()) {
+            return true;
+        }
+        // Same order as content negotiation: highest quality first, the more specific type on a tie
+        MimeTypeUtils.sortBySpecificity(mediaTypes);
+        mediaTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() == 0) {
+                break;
+            }
+            if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                return !rejectsJson(mediaTypes);
+            }
+            if (mediaType.includes(JacksonConfig.APPLICATION_SMILE) || mediaType.includes(JacksonConfig.APPLICATION_CBOR)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    // "application/json;q=0" excludes JSON even when a wildcard would otherwise match it
+    private static boolean rejectsJson(List<MediaType> mediaTypes) {
+        return mediaTypes.stream().anyMatch(mediaType -> mediaType.getQualityValue() == 0
+                && mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)
+                && !mediaType.isWildcardType());
+    }
+
+    private byte[] fragmentFor(Event event) {
+        EventSnapshot snapshot = EventSnapshot.of(event);
+        Fragment fragment = fragments.get(event.getId());
+        // Comparing the snapshot keeps a fragment written from a concurrently replaced row from going stale
+        if (fragment != null && fragment.source().equals(snapshot)) {
+            return fragment.json();
+        }
+
+        byte[] json = serializeWithoutAvailableSpots(event);
+        if (fragments.size() >= maxEntries) {
+            fragments.clear();
+        }
+        fragments.put(event.getId(), new Fragment(snapshot, json));
+        return json;
+    }
+
+    private byte[] serializeWithoutAvailableSpots(Event event) {
+        try {
+            ObjectNode node = objectMapper.valueToTree(EventResponseDto.fromEvent(event));
+            node.remove("availableSpots");
+            byte[] json = objectMapper.writeValueAsBytes(node);
+            // Drop the closing brace so availableSpots can be appended
+            return Arrays.copyOf(json, json.length - 1);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize event " + event.getId(), e);
+        }
+    }
+
+    private record Fragment(EventSnapshot source, byte[] json) {
+    }
+
+    private record EventSnapshot(String title, String description, String location,
+                                 LocalDateTime dateTime, Integer capacity, Long organizerId, Long version) {
+
+        static EventSnapshot of(Event event) {
+            return new EventSnapshot(event.getTitle(), event.getDescription(), event.getLocation(),
+                    event.getDateTime(), event.getCapacity(), event.getOrganizerId(), event.getVersion());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.eventify.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * Concurrency limit that adapts to how the backend copes, AIMD style. Completed requests are
+ * collected into windows; at the end of each window the limit shrinks multiplicatively when the
+ * window's average latency exceeds the baseline by more than the tolerance or when callers are
+ * queueing for a pooled connection, and grows by one when the window was healthy and the limit was
+ * actually in use. The baseline follows drops in latency at once and rises only slowly, so a lasting
+ * change in the workload resets it while a burst of queueing does not.
+ * <p>
+ * Low priority callers may only use {@code lowPriorityShare} of the limit, which keeps the rest
+ * free for high priority (cheap) requests once the limit is reached.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Priority {HIGH, LOW}
+
+    private static final double BASELINE_SMOOTHING = 0.05;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final double lowPriorityShare;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final IntSupplier queuedForConnection;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // Window state, guarded by this
+    private long windowStart = System.nanoTime();
+    private int windowSamples;
+    private long windowLatencySum;
+    private int windowMaxInFlight;
+    private long baselineNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double backoffRatio, double latencyTolerance, double lowPriorityShare,
+                                      Duration window, int minWindowSamples, IntSupplier queuedForConnection) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.lowPriorityShare = lowPriorityShare;
+        this.windowNanos = window.toNanos();
+        this.minWindowSamples = minWindowSamples;
+        this.queuedForConnection = queuedForConnection;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Takes a slot if the caller's share of the limit has room. Every successful call must be
+     * followed by {@link #release(long)}.
+     */
+    public boolean tryAcquire(Priority priority) {
+        int cap = priority == Priority.HIGH ? limit : Math.max(1, (int) (limit * lowPriorityShare));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= cap) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        synchronized (this) {
+            windowSamples++;
+            windowLatencySum += latencyNanos;
+            windowMaxInFlight = Math.max(windowMaxInFlight, inFlightBefore);
+            long now = System.nanoTime();
+            if (windowSamples >= minWindowSamples && now - windowStart >= windowNanos) {
+                adjust(windowLatencySum / windowSamples);
+                windowStart = now;
+                windowSamples = 0;
+                windowLatencySum = 0;
+                windowMaxInFlight = 0;
+            }
+        }
+    }
+
+    // Caller holds the lock
+    private void adjust(long averageLatency) {
+        boolean slow = baselineNanos > 0 && averageLatency > baselineNanos * latencyTolerance;
+        if (slow || queuedForConnection.getAsInt() > 0) {
+            limit = Math.max(minLimit, (int) (limit * backoffRatio));
+        } else if (windowMaxInFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+        baselineNanos = baselineNanos == 0 || averageLatency < baselineNanos
+                ? averageLatency
+                : baselineNanos + (long) ((averageLatency - baselineNanos) * BASELINE_SMOOTHING);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,68 @@
+package com.eventify.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps the concurrent requests of one {@link TrafficArea}. A request that finds the bulkhead full
+ * waits, in arrival order, for up to {@code maxWait} if fewer than {@code maxQueue} requests are
+ * already waiting, and is rejected otherwise. With {@code maxQueue} 0 a full bulkhead rejects at once.
+ */
+public class Bulkhead {
+
+    private final TrafficArea area;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public Bulkhead(TrafficArea area, int maxConcurrent, int maxQueue, Duration maxWait) {
+        this.area = area;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * @return whether the caller got in; if so it must call {@link #exit()} when done
+     */
+    public boolean tryEnter() throws InterruptedException {
+        // The timed form honours fairness, so newcomers do not overtake queued requests
+        if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        if (permits.getQueueLength() < maxQueue && permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    public void exit() {
+        permits.release();
+    }
+
+    public TrafficArea getArea() {
+        return area;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
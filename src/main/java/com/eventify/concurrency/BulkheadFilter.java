@@ -0,0 +1,137 @@
+package com.eventify.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-area bulkheads, enabled with {@code eventify.bulkhead.enabled=true}. Public, user, organizer
+ * and admin requests each get their own concurrency cap and queueing policy
+ * ({@code eventify.bulkhead.<area>.max-concurrent}, {@code max-queue}, {@code max-wait}), so a burst
+ * of expensive admin or organizer work cannot take every worker thread from the public listing.
+ * Requests that do not get in are answered with 503 and {@code Retry-After}. The request's area is
+ * also recorded for the connection sub-pools (see {@code BulkheadConfig}).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class BulkheadFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+    private final Map<TrafficArea, Bulkhead> bulkheads = new EnumMap<>(TrafficArea.class);
+
+    public BulkheadFilter(Environment environment,
+                          ObjectMapper objectMapper,
+                          @Value("${eventify.bulkhead.enabled:false}") boolean enabled,
+                          @Value("${eventify.bulkhead.retry-after:1s}") Duration retryAfter) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        for (TrafficArea area : TrafficArea.values()) {
+            bulkheads.put(area, bulkhead(environment, area));
+        }
+    }
+
+    // Public reads are cheap and plentiful: many slots and a short queue. Admin work is the opposite.
+    private static Bulkhead bulkhead(Environment environment, TrafficArea area) {
+        String prefix = "eventify.bulkhead." + area.key() + ".";
+        int maxConcurrent = switch (area) {
+            case PUBLIC -> 200;
+            case USER -> 100;
+            case ORGANIZER -> 50;
+            case ADMIN -> 10;
+        };
+        int maxQueue = switch (area) {
+            case PUBLIC -> 100;
+            case USER -> 50;
+            case ORGANIZER -> 20;
+            case ADMIN -> 5;
+        };
+        Duration maxWait = switch (area) {
+            case PUBLIC -> Duration.ofMillis(100);
+            case USER -> Duration.ofMillis(500);
+            case ORGANIZER -> Duration.ofSeconds(1);
+            case ADMIN -> Duration.ofSeconds(2);
+        };
+        return new Bulkhead(area,
+                environment.getProperty(prefix + "max-concurrent", Integer.class, maxConcurrent),
+                environment.getProperty(prefix + "max-queue", Integer.class, maxQueue),
+                environment.getProperty(prefix + "max-wait", Duration.class, maxWait));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || areaOf(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        TrafficArea area = areaOf(request);
+        Bulkhead bulkhead = bulkheads.get(area);
+        boolean entered;
+        try {
+            entered = bulkhead.tryEnter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            entered = false;
+        }
+        if (!entered) {
+            ServiceUnavailableResponse.write(objectMapper, request, response, retryAfterSeconds,
+                    "The " + area.key() + " API is at capacity, retry later");
+            return;
+        }
+        TrafficArea.enter(area);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TrafficArea.exit();
+            bulkhead.exit();
+        }
+    }
+
+    private static TrafficArea areaOf(HttpServletRequest request) {
+        return TrafficArea.forPath(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Bulkhead bulkhead : bulkheads.values()) {
+            String area = bulkhead.getArea().key();
+            Gauge.builder("eventify.bulkhead.active", bulkhead, Bulkhead::getActive)
+                    .description("Requests currently inside the bulkhead")
+                    .tag("area", area)
+                    .register(registry);
+            Gauge.builder("eventify.bulkhead.waiting", bulkhead, Bulkhead::getWaiting)
+                    .description("Requests queued for the bulkhead")
+                    .tag("area", area)
+                    .register(registry);
+            Gauge.builder("eventify.bulkhead.saturation", bulkhead, b -> (double) b.getActive() / b.getMaxConcurrent())
+                    .description("Share of the bulkhead's slots in use")
+                    .tag("area", area)
+                    .register(registry);
+            FunctionCounter.builder("eventify.bulkhead.rejected", bulkhead, Bulkhead::getRejected)
+                    .description("Requests rejected with 503 because the bulkhead was full")
+                    .tag("area", area)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.eventify.concurrency;
+
+import com.eventify.concurrency.AdaptiveConcurrencyLimiter.Priority;
+import com.eventify.datasource.AdmissionControlledDataSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * Load shedding in front of everything else, enabled with {@code eventify.concurrency-limit.enabled=true}.
+ * Requests beyond the {@link AdaptiveConcurrencyLimiter adaptive limit} are answered at once with
+ * 503 and {@code Retry-After} instead of queueing for a database connection until they time out.
+ * The limit reacts to request latency and to callers waiting for a pooled connection. Public
+ * GET requests are cheap and get high priority; everything else may only use part of the limit.
+ * Async requests hold a slot only until they go async, so streams do not count against the limit.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<String> excludedPaths;
+    private final long retryAfterSeconds;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Map<Priority, Counter> rejections = new EnumMap<>(Priority.class);
+
+    public ConcurrencyLimitFilter(DataSource dataSource,
+                                  ObjectMapper objectMapper,
+                                  @Value("${eventify.concurrency-limit.enabled:false}") boolean enabled,
+                                  @Value("${eventify.concurrency-limit.initial-limit:50}") int initialLimit,
+                                  @Value("${eventify.concurrency-limit.min-limit:8}") int minLimit,
+                                  @Value("${eventify.concurrency-limit.max-limit:400}") int maxLimit,
+                                  @Value("${eventify.concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+                                  @Value("${eventify.concurrency-limit.latency-tolerance:2.0}") double latencyTolerance,
+                                  @Value("${eventify.concurrency-limit.low-priority-share:0.8}") double lowPriorityShare,
+                                  @Value("${eventify.concurrency-limit.window:1s}") Duration window,
+                                  @Value("${eventify.concurrency-limit.min-window-samples:20}") int minWindowSamples,
+                                  @Value("${eventify.concurrency-limit.retry-after:1s}") Duration retryAfter,
+                                  @Value("${eventify.concurrency-limit.excluded-paths:/actuator/**,/api/organizer/events/import}") List<String> excludedPaths) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.excludedPaths = excludedPaths;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio,
+                latencyTolerance, lowPriorityShare, window, minWindowSamples, queuedForConnection(dataSource));
+    }
+
+    // Threads waiting inside Hikari, plus those queued for admission when virtual threads are on
+    private static IntSupplier queuedForConnection(DataSource dataSource) {
+        try {
+            HikariDataSource hikari = dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class) : null;
+            AdmissionControlledDataSource admission = dataSource.isWrapperFor(AdmissionControlledDataSource.class)
+                    ? dataSource.unwrap(AdmissionControlledDataSource.class) : null;
+            return () -> {
+                int waiting = admission != null ? admission.getWaitingCount() : 0;
+                // The MXBean only exists once the pool has started
+                HikariPoolMXBean pool = hikari != null ? hikari.getHikariPoolMXBean() : null;
+                return pool != null ? waiting + pool.getThreadsAwaitingConnection() : waiting;
+            };
+        } catch (SQLException e) {
+            log.warn("Connection pool not found, limiting on latency only", e);
+            return () -> 0;
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return excludedPaths.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Priority priority = priorityOf(request);
+        if (!limiter.tryAcquire(priority)) {
+            Counter rejected = rejections.get(priority);
+            if (rejected != null) {
+                rejected.increment();
+            }
+            ServiceUnavailableResponse.write(objectMapper, request, response, retryAfterSeconds,
+                    "The server is overloaded, retry later");
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    private static Priority priorityOf(HttpServletRequest request) {
+        boolean read = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+        return read && request.getRequestURI().startsWith(request.getContextPath() + "/api/public/")
+                ? Priority.HIGH
+                : Priority.LOW;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("eventify.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        Gauge.builder("eventify.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests currently admitted by the concurrency limiter")
+                .register(registry);
+        for (Priority priority : Priority.values()) {
+            rejections.put(priority, Counter.builder("eventify.concurrency.rejected")
+                    .description("Requests shed with 503 by the concurrency limiter")
+                    .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+    }
+}
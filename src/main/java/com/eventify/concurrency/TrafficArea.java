@@ -0,0 +1,58 @@
+package com.eventify.concurrency;
+
+import java.util.Locale;
+
+/**
+ * The API areas of {@code SecurityConfig}, each isolated in its own {@link Bulkhead}.
+ * The area of the request being handled is kept per thread, so connection sub-pools can tell
+ * which area asks for a connection.
+ */
+public enum TrafficArea {
+    PUBLIC("/api/public/"),
+    USER("/api/user/"),
+    ORGANIZER("/api/organizer/"),
+    ADMIN("/api/admin/");
+
+    private static final ThreadLocal<TrafficArea> CURRENT = new ThreadLocal<>();
+
+    private final String pathPrefix;
+
+    TrafficArea(String pathPrefix) {
+        this.pathPrefix = pathPrefix;
+    }
+
+    /**
+     * Name used in property keys and metric tags, e.g. {@code organizer}.
+     */
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return the area the path belongs to, or {@code null} outside the four API areas
+     */
+    public static TrafficArea forPath(String path) {
+        for (TrafficArea area : values()) {
+            if (path.startsWith(area.pathPrefix)) {
+                return area;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The area of the request on this thread, or {@code null} outside a request. Async request
+     * processing gets the area of its request (see {@link TrafficAreaPropagation}).
+     */
+    public static TrafficArea current() {
+        return CURRENT.get();
+    }
+
+    public static void enter(TrafficArea area) {
+        CURRENT.set(area);
+    }
+
+    public static void exit() {
+        CURRENT.remove();
+    }
+}
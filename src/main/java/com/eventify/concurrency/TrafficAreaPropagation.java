@@ -0,0 +1,40 @@
+package com.eventify.concurrency;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Carries the request's {@link TrafficArea} over to the thread that runs its async work, such as a
+ * {@code StreamingResponseBody} export, so that work takes its connections from the area's sub-pool
+ * like the request itself. The bulkhead slot is still released once the request goes async.
+ */
+public class TrafficAreaPropagation implements CallableProcessingInterceptor {
+
+    private static final String AREA_ATTRIBUTE = TrafficAreaPropagation.class.getName() + ".area";
+
+    // On the request thread, still inside BulkheadFilter
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        TrafficArea area = TrafficArea.current();
+        if (area != null) {
+            request.setAttribute(AREA_ATTRIBUTE, area, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    // On the async thread, right before the task runs
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(AREA_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof TrafficArea area) {
+            TrafficArea.enter(area);
+        }
+    }
+
+    // Runs whether or not the task failed; the executor's threads are reused
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        TrafficArea.exit();
+    }
+}
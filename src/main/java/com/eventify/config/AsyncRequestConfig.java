@@ -0,0 +1,40 @@
+package com.eventify.config;
+
+import com.eventify.concurrency.TrafficArea;
+import com.eventify.concurrency.TrafficAreaPropagation;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Per-request async timeouts. A handler returning a {@code StreamingResponseBody} or {@code Callable}
+ * that may run longer than {@code spring.mvc.async.request-timeout} sets {@link #TIMEOUT_ATTRIBUTE}
+ * to a {@link Duration} on its request, so only that endpoint gets the longer timeout.
+ * The request's {@link TrafficArea} is carried over to the async thread as well.
+ */
+@Configuration
+public class AsyncRequestConfig implements WebMvcConfigurer {
+
+    public static final String TIMEOUT_ATTRIBUTE = AsyncRequestConfig.class.getName() + ".timeout";
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            // Runs before the async context is started, which is when the timeout is applied
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                if (request instanceof AsyncWebRequest asyncRequest
+                        && request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Duration timeout) {
+                    asyncRequest.setTimeout(timeout.toMillis());
+                }
+            }
+        }, new TrafficAreaPropagation());
+    }
+}
@@ -0,0 +1,69 @@
+package com.eventify.config;
+
+import com.eventify.concurrency.TrafficArea;
+import com.eventify.datasource.AdmissionControlledDataSource;
+import com.eventify.datasource.BulkheadDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Optional connection sub-pools for the bulkheads. An area with
+ * {@code eventify.bulkhead.<area>.max-connections} set may hold at most that many connections of
+ * the shared pool at once, waiting up to {@code connection-wait} for one, so for example admin
+ * reports cannot drain the pool that public reads need.
+ */
+@Configuration
+@ConditionalOnProperty(name = "eventify.bulkhead.enabled", havingValue = "true")
+public class BulkheadConfig {
+
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                Map<TrafficArea, AdmissionControlledDataSource> subPools = new EnumMap<>(TrafficArea.class);
+                for (TrafficArea area : TrafficArea.values()) {
+                    String prefix = "eventify.bulkhead." + area.key() + ".";
+                    int maxConnections = environment.getProperty(prefix + "max-connections", Integer.class, 0);
+                    if (maxConnections > 0) {
+                        Duration wait = environment.getProperty(prefix + "connection-wait", Duration.class, Duration.ofSeconds(5));
+                        subPools.put(area, new AdmissionControlledDataSource(dataSource, maxConnections, wait));
+                    }
+                }
+                return subPools.isEmpty() ? bean : new BulkheadDataSource(dataSource, subPools);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder bulkheadConnectionMetrics(DataSource dataSource) throws SQLException {
+        if (!dataSource.isWrapperFor(BulkheadDataSource.class)) {
+            return registry -> { };
+        }
+        BulkheadDataSource bulkheads = dataSource.unwrap(BulkheadDataSource.class);
+        return registry -> bulkheads.getSubPools().forEach((area, subPool) -> {
+            Gauge.builder("eventify.bulkhead.connections.available", subPool, AdmissionControlledDataSource::getAvailablePermits)
+                    .description("Connections the area may still take from the shared pool")
+                    .tag("area", area.key())
+                    .register(registry);
+            Gauge.builder("eventify.bulkhead.connections.waiting", subPool, AdmissionControlledDataSource::getWaitingCount)
+                    .description("Requests of the area waiting for a connection")
+                    .tag("area", area.key())
+                    .register(registry);
+        });
+    }
+}
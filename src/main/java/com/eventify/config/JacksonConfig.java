@@ -2,19 +2,55 @@ package com.eventify.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
 
 @Configuration
-public class JacksonConfig {
+public class JacksonConfig implements WebMvcConfigurer {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+    public static final MediaType APPLICATION_CBOR = MediaType.APPLICATION_CBOR;
 
     @Bean
     @Primary
     public ObjectMapper objectMapper() {
-        return new ObjectMapper()
+        return configure(new ObjectMapper());
+    }
+
+    public ObjectMapper smileMapper() {
+        return configure(new SmileMapper());
+    }
+
+    public ObjectMapper cborMapper() {
+        return configure(new CBORMapper());
+    }
+
+    /**
+     * Smile and CBOR are offered next to JSON with the same date handling. They are appended
+     * after the JSON converter so JSON stays the default when the Accept header allows anything.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+        converters.add(new MappingJackson2SmileHttpMessageConverter(smileMapper()));
+        converters.add(new MappingJackson2CborHttpMessageConverter(cborMapper()));
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        return mapper
                 .registerModule(new JavaTimeModule())
                 .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     }
-}
\ No newline at end of file
+}
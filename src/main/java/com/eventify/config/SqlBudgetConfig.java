@@ -0,0 +1,44 @@
+package com.eventify.config;
+
+import com.eventify.diagnostics.RequestStatementInspector;
+import com.eventify.diagnostics.SqlBudgetFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Map;
+
+/**
+ * Per-request SQL statement budgets, enabled with {@code eventify.sql-budget.enabled=true}.
+ * Budgets are keyed by the endpoint's path pattern as mapped in the controller, e.g.
+ * {@code eventify.sql-budget.endpoints[/api/public/events]=3}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "eventify.sql-budget.enabled", havingValue = "true")
+public class SqlBudgetConfig {
+
+    // An inspector configured explicitly (e.g. by a test) wins; requests are then not counted
+    @Bean
+    public HibernatePropertiesCustomizer requestStatementInspector() {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new RequestStatementInspector());
+    }
+
+    @Bean
+    public SqlBudgetFilter sqlBudgetFilter(MeterRegistry meterRegistry,
+                                           Environment environment,
+                                           @Value("${eventify.sql-budget.default-budget:10}") int defaultBudget,
+                                           @Value("${eventify.sql-budget.n-plus-one-threshold:5}") int nPlusOneThreshold,
+                                           @Value("${eventify.sql-budget.fail-on-violation:false}") boolean failOnViolation) {
+        Map<String, Integer> endpointBudgets = Binder.get(environment)
+                .bind("eventify.sql-budget.endpoints", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of());
+        return new SqlBudgetFilter(meterRegistry, endpointBudgets, defaultBudget, nPlusOneThreshold, failOnViolation);
+    }
+}
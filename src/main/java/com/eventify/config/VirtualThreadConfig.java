@@ -0,0 +1,73 @@
+package com.eventify.config;
+
+import com.eventify.datasource.AdmissionControlledDataSource;
+import com.eventify.diagnostics.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Extras for {@code spring.threads.virtual.enabled=true}. Boot itself moves Tomcat request
+ * handling and the {@code applicationTaskExecutor} used for {@code @Async} onto virtual threads;
+ * this adds bounded database admission and pinning diagnostics on top.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor databaseAdmissionPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                // Size to the pool so queued callers wait here rather than inside Hikari
+                int permits = bean instanceof HikariDataSource hikari
+                        ? hikari.getMaximumPoolSize()
+                        : environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                Duration timeout = environment.getProperty(
+                        "eventify.virtual-threads.db-admission-timeout", Duration.class, Duration.ofSeconds(30));
+                return new AdmissionControlledDataSource(dataSource, permits, timeout);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder databaseAdmissionMetrics(DataSource dataSource) throws SQLException {
+        if (!dataSource.isWrapperFor(AdmissionControlledDataSource.class)) {
+            return registry -> { };
+        }
+        AdmissionControlledDataSource admission = dataSource.unwrap(AdmissionControlledDataSource.class);
+        return registry -> {
+            Gauge.builder("eventify.db.admission.available", admission, AdmissionControlledDataSource::getAvailablePermits)
+                    .description("Free database admission permits")
+                    .register(registry);
+            Gauge.builder("eventify.db.admission.waiting", admission, AdmissionControlledDataSource::getWaitingCount)
+                    .description("Threads queued for a database admission permit")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "eventify.virtual-threads.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${eventify.virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+    }
+}
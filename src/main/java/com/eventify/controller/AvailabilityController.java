@@ -0,0 +1,107 @@
+package com.eventify.controller;
+
+import com.eventify.dto.ErrorResponse;
+import com.eventify.service.AvailabilityBroadcaster;
+import com.eventify.service.AvailabilityService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/public/events/availability")
+public class AvailabilityController {
+
+    private static final Duration STREAM_TIMEOUT_MARGIN = Duration.ofMinutes(1);
+
+    private final AvailabilityService availabilityService;
+    private final AvailabilityBroadcaster availabilityBroadcaster;
+    private final int maxBatchSize;
+    private final int maxIdsPerStream;
+    private final Duration heartbeatInterval;
+    private final Duration maxStreamDuration;
+
+    public AvailabilityController(AvailabilityService availabilityService,
+                                  AvailabilityBroadcaster availabilityBroadcaster,
+                                  @Value("${eventify.availability.max-batch-size:200}") int maxBatchSize,
+                                  @Value("${eventify.availability.stream.max-ids:100}") int maxIdsPerStream,
+                                  @Value("${eventify.availability.stream.heartbeat:15s}") Duration heartbeatInterval,
+                                  @Value("${eventify.availability.stream.max-duration:5m}") Duration maxStreamDuration) {
+        this.availabilityService = availabilityService;
+        this.availabilityBroadcaster = availabilityBroadcaster;
+        this.maxBatchSize = maxBatchSize;
+        this.maxIdsPerStream = maxIdsPerStream;
+        this.heartbeatInterval = heartbeatInterval;
+        this.maxStreamDuration = maxStreamDuration;
+    }
+
+    @GetMapping
+    public ResponseEntity<?> getAvailability(@RequestParam List<Long> ids) {
+        Set<Long> eventIds = new LinkedHashSet<>(ids);
+        if (eventIds.size() > maxBatchSize) {
+            return ResponseEntity.badRequest().body(
+                    new ErrorResponse(
+                            LocalDateTime.now(),
+                            400,
+                            "Bad Request",
+                            "At most " + maxBatchSize + " event ids can be requested at once",
+                            "/api/public/events/availability"
+                    )
+            );
+        }
+        return ResponseEntity.ok(availabilityService.getAvailability(eventIds));
+    }
+
+    /**
+     * Server-Sent Events with the current availability of each requested event, followed by
+     * at most one update per event per broadcast interval. Connections hold no thread while idle;
+     * they end after the max duration and browsers' EventSource reconnects on its own. The async
+     * timeout is set on this emitter only, just past the max duration, so other endpoints keep the
+     * default one.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAvailability(@RequestParam List<Long> ids) {
+        Set<Long> eventIds = new LinkedHashSet<>(ids);
+        if (eventIds.isEmpty() || eventIds.size() > maxIdsPerStream) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        SseEmitter emitter = new SseEmitter(maxStreamDuration.plus(STREAM_TIMEOUT_MARGIN).toMillis());
+        Flux<SseEmitter.SseEventBuilder> updates = availabilityBroadcaster.subscribe(eventIds)
+                .map(availability -> SseEmitter.event()
+                        .name("availability")
+                        .data(availability));
+        Flux<SseEmitter.SseEventBuilder> heartbeats = Flux.interval(heartbeatInterval)
+                .map(tick -> SseEmitter.event().comment("keep-alive"));
+
+        // Writes happen off the broadcast thread so one slow client cannot stall the others
+        Disposable subscription = Flux.merge(updates, heartbeats)
+                .take(maxStreamDuration)
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(event -> send(emitter, event), emitter::completeWithError, emitter::complete);
+        emitter.onCompletion(subscription::dispose);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(error -> subscription.dispose());
+        return ResponseEntity.ok(emitter);
+    }
+
+    private static void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException e) {
+            // The client went away; completing ends the subscription through onCompletion/onError
+            emitter.completeWithError(e);
+        }
+    }
+}
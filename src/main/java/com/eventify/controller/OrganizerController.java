@@ -1,51 +1,126 @@
 package com.eventify.controller;
 
+import com.eventify.cache.EventJsonCache;
+import com.eventify.config.AsyncRequestConfig;
 import com.eventify.dto.ErrorResponse;
 import com.eventify.dto.EventDto;
 import com.eventify.dto.EventResponseDto;
+import com.eventify.exception.EventNotFoundException;
+import com.eventify.exception.UnauthorizedActionException;
 import com.eventify.model.Event;
 import com.eventify.model.User;
+import com.eventify.service.AttendeeExportService;
+import com.eventify.service.EventArchiveService;
+import com.eventify.service.EventImportService;
 import com.eventify.service.EventService;
+import com.eventify.service.RecordFormat;
 import com.eventify.service.RegistrationService;
 import com.eventify.service.UserService;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindException;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/organizer")
 public class OrganizerController {
 
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final UserService userService;
     private final EventService eventService;
     private final RegistrationService registrationService;
+    private final EventJsonCache eventJsonCache;
+    private final EventImportService eventImportService;
+    private final AttendeeExportService attendeeExportService;
+    private final EventArchiveService eventArchiveService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Duration exportTimeout;
 
     public OrganizerController(UserService userService,
                                EventService eventService,
-                               RegistrationService registrationService) {
+                               RegistrationService registrationService,
+                               EventJsonCache eventJsonCache,
+                               EventImportService eventImportService,
+                               AttendeeExportService attendeeExportService,
+                               EventArchiveService eventArchiveService,
+                               ObjectMapper objectMapper,
+                               Validator validator,
+                               @Value("${eventify.attendee-export.timeout:30m}") Duration exportTimeout) {
         this.userService = userService;
         this.eventService = eventService;
         this.registrationService = registrationService;
+        this.eventJsonCache = eventJsonCache;
+        this.eventImportService = eventImportService;
+        this.attendeeExportService = attendeeExportService;
+        this.eventArchiveService = eventArchiveService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.exportTimeout = exportTimeout;
     }
 
+    /**
+     * The organizer's events. Events moved to the archive are only included with
+     * {@code includeArchived=true}, after the live ones.
+     */
     @GetMapping("/events")
-    public ResponseEntity<List<EventResponseDto>> getOrganizerEvents(Authentication authentication) {
+    public ResponseEntity<?> getOrganizerEvents(Authentication authentication,
+                                                @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                @RequestParam(defaultValue = "false") boolean includeArchived) {
         User user = userService.findByEmail(authentication.getName());
         List<Event> events = eventService.getEventsByOrganizerId(user.getId());
+        Map<Long, Long> registrationCounts = registrationService.getRegistrationCounts(
+                events.stream().map(Event::getId).toList());
+        if (!includeArchived && eventJsonCache.isEnabledFor(EventJsonCache.ORGANIZER_EVENTS, accept)) {
+            byte[] body = eventJsonCache.writeEvents(events,
+                    event -> registrationCounts.getOrDefault(event.getId(), 0L));
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
 
         List<EventResponseDto> eventDtos = events.stream()
                 .map(event -> {
-                    long registrationCount = registrationService.getRegistrationCount(event.getId());
+                    long registrationCount = registrationCounts.getOrDefault(event.getId(), 0L);
                     return EventResponseDto.fromEvent(event, registrationCount);
                 })
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (includeArchived) {
+            List<Event> archived = eventArchiveService.getArchivedEventsByOrganizerId(user.getId());
+            Map<Long, Long> archivedCounts = eventArchiveService.getArchivedRegistrationCounts(
+                    archived.stream().map(Event::getId).toList());
+            archived.forEach(event -> eventDtos.add(
+                    EventResponseDto.fromEvent(event, archivedCounts.getOrDefault(event.getId(), 0L))));
+        }
 
         return ResponseEntity.ok(eventDtos);
     }
@@ -68,9 +143,83 @@ public class OrganizerController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
 
+    /**
+     * Creates events from an NDJSON or CSV body and streams back one result line per record.
+     * Runs on the request thread rather than asynchronously, so long uploads are not cut off
+     * by the async request timeout.
+     */
+    @PostMapping(value = "/events/import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importEvents(Authentication authentication,
+                             @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                             InputStream body,
+                             HttpServletResponse response) throws IOException {
+        User user = userService.findByEmail(authentication.getName());
+        boolean csv = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.valueOf(TEXT_CSV_VALUE));
+        RecordFormat format = csv ? RecordFormat.CSV : RecordFormat.NDJSON;
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        eventImportService.importEvents(user, format, body, response.getOutputStream());
+    }
+
+    /**
+     * Streams the event's attendees as CSV (default) or NDJSON, gzip-compressed when the
+     * client accepts it. Rows go from a database cursor to the response without being collected.
+     * Large exports outlast the default async timeout, so this request gets its own.
+     */
+    @GetMapping("/events/{id}/attendees")
+    public ResponseEntity<StreamingResponseBody> exportAttendees(@PathVariable Long id,
+                                                                 @RequestParam(defaultValue = "csv") String format,
+                                                                 @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                                 Authentication authentication,
+                                                                 HttpServletRequest request) {
+        User user = userService.findByEmail(authentication.getName());
+        Optional<RecordFormat> recordFormat = RecordFormat.fromName(format);
+        if (recordFormat.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Event event = eventService.getEventById(id)
+                .orElseThrow(() -> new EventNotFoundException("Event not found with id: " + id));
+        if (!event.getOrganizerId().equals(user.getId())) {
+            throw new UnauthorizedActionException("You are not authorized to export attendees of this event");
+        }
+
+        boolean csv = recordFormat.get() == RecordFormat.CSV;
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        String filename = "event-" + id + "-attendees." + (csv ? "csv" : "ndjson");
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        request.setAttribute(AsyncRequestConfig.TIMEOUT_ATTRIBUTE, exportTimeout);
+        StreamingResponseBody body = output -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(output, 64 * 1024);
+                attendeeExportService.exportAttendees(id, recordFormat.get(), compressed);
+                compressed.finish();
+            } else {
+                attendeeExportService.exportAttendees(id, recordFormat.get(), output);
+            }
+        };
+        return response.body(body);
+    }
+
+    /**
+     * Replaces the event's fields. With an {@code If-Match} header carrying the ETag (the version)
+     * the client last saw, the update is refused with 412 if the event has changed since; an update
+     * that loses a race with a concurrent one fails the same way instead of overwriting it.
+     */
     @PutMapping("/events/{id}")
     public ResponseEntity<?> updateEvent(@PathVariable Long id,
                                          Authentication authentication,
+                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                          @Valid @RequestBody EventDto eventDto) {
         User user = userService.findByEmail(authentication.getName());
 
@@ -103,18 +252,78 @@ public class OrganizerController {
             );
         }
 
-        // Update event fields
+        if (ifMatch != null && !matchesVersion(ifMatch, event.getVersion())) {
+            return preconditionFailed(id);
+        }
+
+        return saveUpdate(event, eventDto, ifMatch);
+    }
+
+    /**
+     * Applies a JSON Merge Patch (RFC 7396) to the event: fields in the patch are replaced,
+     * {@code null} clears a field, and absent fields are left alone. The merged event is
+     * validated like a PUT body, and only the columns that actually changed are written.
+     * {@code If-Match} is honoured as for PUT.
+     */
+    @PatchMapping(value = "/events/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> patchEvent(@PathVariable Long id,
+                                        Authentication authentication,
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                        @RequestBody JsonNode patch) throws BindException {
+        User user = userService.findByEmail(authentication.getName());
+        Event event = eventService.getEventById(id)
+                .orElseThrow(() -> new EventNotFoundException("Event not found with id: " + id));
+        if (!event.getOrganizerId().equals(user.getId())) {
+            throw new UnauthorizedActionException("You are not authorized to update this event");
+        }
+        if (ifMatch != null && !matchesVersion(ifMatch, event.getVersion())) {
+            return preconditionFailed(id);
+        }
+        if (!patch.isObject()) {
+            return badRequest(id, "A merge patch for an event must be a JSON object");
+        }
+
+        EventDto merged;
+        try {
+            merged = objectMapper.readerForUpdating(EventDto.fromEvent(event)).readValue(patch);
+        } catch (JsonMappingException e) {
+            String field = e.getPath().isEmpty() ? null : e.getPath().get(e.getPath().size() - 1).getFieldName();
+            return badRequest(id, field != null ? "Invalid or read-only field: " + field : "Invalid merge patch");
+        } catch (IOException e) {
+            return badRequest(id, "Invalid merge patch");
+        }
+
+        // Reported by GlobalExceptionHandler in the same shape as an invalid PUT body
+        BindingResult errors = new BeanPropertyBindingResult(merged, "eventDto");
+        new SpringValidatorAdapter(validator).validate(merged, errors);
+        if (errors.hasErrors()) {
+            throw new BindException(errors);
+        }
+
+        return saveUpdate(event, merged, ifMatch);
+    }
+
+    // Unchanged fields stay clean, so @DynamicUpdate leaves their columns out of the UPDATE
+    private ResponseEntity<?> saveUpdate(Event event, EventDto eventDto, String ifMatch) {
         event.setTitle(eventDto.getTitle());
         event.setDescription(eventDto.getDescription());
         event.setLocation(eventDto.getLocation());
         event.setDateTime(eventDto.getDateTime());
         event.setCapacity(eventDto.getCapacity());
 
-        Event updatedEvent = eventService.updateEvent(event);
-        long registrationCount = registrationService.getRegistrationCount(id);
+        Event updatedEvent;
+        try {
+            updatedEvent = eventService.updateEvent(event);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            if (ifMatch != null) {
+                return preconditionFailed(event.getId());
+            }
+            throw e;
+        }
+        long registrationCount = registrationService.getRegistrationCount(updatedEvent.getId());
         EventResponseDto responseDto = EventResponseDto.fromEvent(updatedEvent, registrationCount);
 
-        return ResponseEntity.ok(responseDto);
+        return ResponseEntity.ok().eTag(eTag(updatedEvent.getVersion())).body(responseDto);
     }
 
     @DeleteMapping("/events/{id}")
@@ -159,6 +368,48 @@ public class OrganizerController {
         return ResponseEntity.noContent().build();
     }
 
+    private static String eTag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    // Accepts a list of ETags, or "*" for any current version. If-Match compares strongly, so a weak tag never matches
+    private static boolean matchesVersion(String ifMatch, Long version) {
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.equals(eTag(version))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ResponseEntity<ErrorResponse> preconditionFailed(Long id) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(
+                new ErrorResponse(
+                        LocalDateTime.now(),
+                        412,
+                        "Precondition Failed",
+                        "Event " + id + " was modified by someone else; reload it and try again",
+                        "/api/organizer/events/" + id
+                )
+        );
+    }
+
+    private static ResponseEntity<ErrorResponse> badRequest(Long id, String message) {
+        return ResponseEntity.badRequest().body(
+                new ErrorResponse(
+                        LocalDateTime.now(),
+                        400,
+                        "Bad Request",
+                        message,
+                        "/api/organizer/events/" + id
+                )
+        );
+    }
+
     @GetMapping("/profile")
     public ResponseEntity<?> getOrganizerProfile(Authentication authentication) {
         User user = userService.findByEmail(authentication.getName());
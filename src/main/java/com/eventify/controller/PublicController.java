@@ -1,5 +1,6 @@
 package com.eventify.controller;
 
+import com.eventify.cache.EventJsonCache;
 import com.eventify.dto.ErrorResponse;
 import com.eventify.dto.EventResponseDto;
 import com.eventify.dto.UserRegistrationDto;
@@ -9,11 +10,16 @@ import com.eventify.service.EventService;
 import com.eventify.service.RegistrationService;
 import com.eventify.service.UserService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -23,13 +29,16 @@ public class PublicController {
     private final UserService userService;
     private final EventService eventService;
     private final RegistrationService registrationService;
+    private final EventJsonCache eventJsonCache;
 
     public PublicController(UserService userService,
                            EventService eventService,
-                           RegistrationService registrationService) {
+                           RegistrationService registrationService,
+                           EventJsonCache eventJsonCache) {
         this.userService = userService;
         this.eventService = eventService;
         this.registrationService = registrationService;
+        this.eventJsonCache = eventJsonCache;
     }
 
     @PostMapping("/users")
@@ -52,12 +61,30 @@ public class PublicController {
     }
 
     @GetMapping("/events")
-    public ResponseEntity<List<EventResponseDto>> getPublicEvents() {
+    public ResponseEntity<?> getPublicEvents(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                             Authentication authentication) {
         List<Event> events = eventService.getUpcomingEvents();
+        // Authenticated callers get a registered flag per event, from one query over their registrations
+        Set<Long> registeredEventIds = authentication != null
+                ? registrationService.getRegisteredEventIds(userService.findByEmail(authentication.getName()).getId())
+                : null;
+        Map<Long, Long> registrationCounts = registrationService.getRegistrationCounts(
+                events.stream().map(Event::getId).toList());
+        if (eventJsonCache.isEnabledFor(EventJsonCache.PUBLIC_EVENTS, accept)) {
+            byte[] body = eventJsonCache.writeEvents(events,
+                    event -> registrationCounts.getOrDefault(event.getId(), 0L),
+                    registeredEventIds);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+
         List<EventResponseDto> eventDtos = events.stream()
                 .map(event -> {
-                    long registrationCount = registrationService.getRegistrationCount(event.getId());
-                    return EventResponseDto.fromEvent(event, registrationCount);
+                    long registrationCount = registrationCounts.getOrDefault(event.getId(), 0L);
+                    EventResponseDto dto = EventResponseDto.fromEvent(event, registrationCount);
+                    if (registeredEventIds != null) {
+                        dto.setRegistered(registeredEventIds.contains(event.getId()));
+                    }
+                    return dto;
                 })
                 .collect(Collectors.toList());
         return ResponseEntity.ok(eventDtos);
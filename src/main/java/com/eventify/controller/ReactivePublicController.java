@@ -0,0 +1,38 @@
+package com.eventify.controller;
+
+import com.eventify.dto.EventResponseDto;
+import com.eventify.exception.EventNotFoundException;
+import com.eventify.repository.ReactiveEventRepository;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive variants of the public reads. They run inside the regular MVC application:
+ * the servlet thread is released while R2DBC fetches rows, and NDJSON responses are
+ * streamed row by row with backpressure from the client connection.
+ */
+@RestController
+@RequestMapping("/api/public/reactive")
+public class ReactivePublicController {
+
+    private final ReactiveEventRepository reactiveEventRepository;
+
+    public ReactivePublicController(ReactiveEventRepository reactiveEventRepository) {
+        this.reactiveEventRepository = reactiveEventRepository;
+    }
+
+    @GetMapping(value = "/events", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<EventResponseDto> getPublicEvents() {
+        return reactiveEventRepository.findUpcomingWithAvailability(LocalDateTime.now());
+    }
+
+    @GetMapping("/events/{id}")
+    public Mono<EventResponseDto> getEvent(@PathVariable Long id) {
+        return reactiveEventRepository.findByIdWithAvailability(id)
+                .switchIfEmpty(Mono.error(() -> new EventNotFoundException("Event not found with id: " + id)));
+    }
+}
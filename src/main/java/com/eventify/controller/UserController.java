@@ -8,6 +8,7 @@ import com.eventify.model.Event;
 import com.eventify.model.Registration;
 import com.eventify.model.User;
 import com.eventify.repository.UserRepository;
+import com.eventify.service.EventArchiveService;
 import com.eventify.service.EventService;
 import com.eventify.service.RegistrationService;
 import com.eventify.service.UserService;
@@ -18,8 +19,11 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -30,15 +34,18 @@ public class UserController {
     private final EventService eventService;
     private final RegistrationService registrationService;
     private final UserRepository userRepository;
+    private final EventArchiveService eventArchiveService;
 
     public UserController(UserService userService,
                          EventService eventService,
                          RegistrationService registrationService,
-                         UserRepository userRepository) {
+                         UserRepository userRepository,
+                         EventArchiveService eventArchiveService) {
         this.userService = userService;
         this.eventService = eventService;
         this.registrationService = registrationService;
         this.userRepository = userRepository;
+        this.eventArchiveService = eventArchiveService;
     }
 
     @GetMapping("/profile")
@@ -134,23 +141,45 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
 
+    /**
+     * The user's registrations. Registrations for archived events are only included with
+     * {@code includeArchived=true}, after the live ones.
+     */
     @GetMapping("/registrations")
-    public ResponseEntity<List<RegistrationResponseDto>> getUserRegistrations(Authentication authentication) {
+    public ResponseEntity<List<RegistrationResponseDto>> getUserRegistrations(Authentication authentication,
+                                                                              @RequestParam(defaultValue = "false") boolean includeArchived) {
         User user = userService.findByEmail(authentication.getName());
         List<Registration> registrations = registrationService.getUserRegistrations(user.getId());
 
+        // Events and their counts are loaded once for all registrations, not per registration
+        Set<Long> eventIds = registrations.stream().map(Registration::getEventId).collect(Collectors.toSet());
+        Map<Long, Event> events = eventService.getEventsByIds(eventIds);
+        Map<Long, Long> registrationCounts = registrationService.getRegistrationCounts(events.keySet());
+
         List<RegistrationResponseDto> responseDtos = registrations.stream()
                 .map(registration -> {
-                    Optional<Event> eventOpt = eventService.getEventById(registration.getEventId());
-                    if (eventOpt.isPresent()) {
-                        Event event = eventOpt.get();
-                        long registrationCount = registrationService.getRegistrationCount(event.getId());
+                    Event event = events.get(registration.getEventId());
+                    if (event != null) {
+                        long registrationCount = registrationCounts.getOrDefault(event.getId(), 0L);
                         EventResponseDto eventDto = EventResponseDto.fromEvent(event, registrationCount);
                         return RegistrationResponseDto.fromRegistration(registration, eventDto);
                     }
                     return RegistrationResponseDto.fromRegistration(registration);
                 })
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (includeArchived) {
+            List<Registration> archived = eventArchiveService.getArchivedUserRegistrations(user.getId());
+            Set<Long> archivedEventIds = archived.stream().map(Registration::getEventId).collect(Collectors.toSet());
+            Map<Long, Event> archivedEvents = eventArchiveService.getArchivedEvents(archivedEventIds);
+            Map<Long, Long> archivedCounts = eventArchiveService.getArchivedRegistrationCounts(archivedEventIds);
+            for (Registration registration : archived) {
+                Event event = archivedEvents.get(registration.getEventId());
+                responseDtos.add(event != null
+                        ? RegistrationResponseDto.fromRegistration(registration, EventResponseDto.fromEvent(event,
+                                archivedCounts.getOrDefault(event.getId(), 0L)))
+                        : RegistrationResponseDto.fromRegistration(registration));
+            }
+        }
 
         return ResponseEntity.ok(responseDtos);
     }
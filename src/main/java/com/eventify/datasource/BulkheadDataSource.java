@@ -0,0 +1,46 @@
+package com.eventify.datasource;
+
+import com.eventify.concurrency.TrafficArea;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Splits one connection pool into per-area sub-pools: a request from an area with a sub-pool
+ * takes its connection through that area's {@link AdmissionControlledDataSource}, so it can hold
+ * at most that many connections at once, including async work such as streamed exports. Work
+ * outside a request, and areas without a sub-pool, use the shared pool directly.
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Map<TrafficArea, AdmissionControlledDataSource> subPools;
+
+    public BulkheadDataSource(DataSource targetDataSource, Map<TrafficArea, AdmissionControlledDataSource> subPools) {
+        super(targetDataSource);
+        this.subPools = subPools;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource subPool = subPool();
+        return subPool != null ? subPool.getConnection() : super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DataSource subPool = subPool();
+        return subPool != null ? subPool.getConnection(username, password) : super.getConnection(username, password);
+    }
+
+    public Map<TrafficArea, AdmissionControlledDataSource> getSubPools() {
+        return subPools;
+    }
+
+    private DataSource subPool() {
+        TrafficArea area = TrafficArea.current();
+        return area != null ? subPools.get(area) : null;
+    }
+}
@@ -0,0 +1,6 @@
+package com.eventify.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
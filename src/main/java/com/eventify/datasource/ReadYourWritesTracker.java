@@ -0,0 +1,68 @@
+package com.eventify.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users wrote recently so their read-only transactions stay on the primary
+ * until the replica has had time to catch up (the configured lag tolerance).
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final Duration lagTolerance;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(@Value("${eventify.datasource.replica.lag-tolerance:5s}") Duration lagTolerance) {
+        this.lagTolerance = lagTolerance;
+    }
+
+    public void recordWrite() {
+        String principal = currentPrincipal();
+        if (principal != null) {
+            recordWrite(principal);
+        }
+    }
+
+    public void recordWrite(String principal) {
+        long now = System.nanoTime();
+        pinnedUntil.put(principal, now + lagTolerance.toNanos());
+        if (pinnedUntil.size() > CLEANUP_THRESHOLD) {
+            pinnedUntil.values().removeIf(deadline -> deadline - now <= 0);
+        }
+    }
+
+    public boolean isPinnedToPrimary() {
+        String principal = currentPrincipal();
+        return principal != null && isPinnedToPrimary(principal);
+    }
+
+    public boolean isPinnedToPrimary(String principal) {
+        Long deadline = pinnedUntil.get(principal);
+        if (deadline == null) {
+            return false;
+        }
+        if (deadline - System.nanoTime() <= 0) {
+            pinnedUntil.remove(principal, deadline);
+            return false;
+        }
+        return true;
+    }
+
+    private String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
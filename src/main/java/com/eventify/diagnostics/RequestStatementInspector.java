@@ -0,0 +1,19 @@
+package com.eventify.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares into the {@link RequestStatements} of the current
+ * request. The SQL itself is passed through unchanged.
+ */
+public class RequestStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatements statements = RequestStatements.current();
+        if (statements != null) {
+            statements.record(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,57 @@
+package com.eventify.diagnostics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statements prepared on the current thread while an HTTP request is being handled, filled by
+ * {@link RequestStatementInspector} and read by {@link SqlBudgetFilter}. Statements are counted by
+ * their text, which still has its {@code ?} placeholders, so the same query issued once per row of a
+ * result (N+1) shows up as one statement with a high count.
+ */
+public final class RequestStatements {
+
+    private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> countsBySql = new HashMap<>();
+    private int total;
+
+    /**
+     * Starts counting on this thread; the returned instance collects until {@link #end()}.
+     */
+    public static RequestStatements begin() {
+        RequestStatements statements = new RequestStatements();
+        CURRENT.set(statements);
+        return statements;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * The statements of the request on this thread, or {@code null} outside one.
+     */
+    public static RequestStatements current() {
+        return CURRENT.get();
+    }
+
+    void record(String sql) {
+        total++;
+        countsBySql.merge(sql, 1, Integer::sum);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * The statement prepared most often, with its count, or {@code null} if none was.
+     */
+    public Map.Entry<String, Integer> mostRepeated() {
+        return countsBySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .orElse(null);
+    }
+}
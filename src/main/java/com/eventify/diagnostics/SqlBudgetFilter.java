@@ -0,0 +1,105 @@
+package com.eventify.diagnostics;
+
+import com.eventify.exception.SqlBudgetExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements each request prepares and checks them against the budget of its
+ * endpoint ({@code eventify.sql-budget.endpoints[<path pattern>]}, else
+ * {@code eventify.sql-budget.default-budget}). A request over budget, or one that prepares the same
+ * statement {@code n-plus-one-threshold} times or more, is logged with its most repeated statement
+ * and counted in {@code eventify.sql.budget.exceeded} or {@code eventify.sql.n-plus-one}. With
+ * {@code fail-on-violation} it also throws, which fails MockMvc-based integration tests.
+ * <p>
+ * Endpoints are identified by their mapped path pattern, so the tags stay bounded; requests no
+ * handler matched are not checked. Statements of async work and of the reactive read path are not
+ * counted.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 30)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Integer> endpointBudgets;
+    private final int defaultBudget;
+    private final int nPlusOneThreshold;
+    private final boolean failOnViolation;
+
+    public SqlBudgetFilter(MeterRegistry meterRegistry, Map<String, Integer> endpointBudgets,
+                           int defaultBudget, int nPlusOneThreshold, boolean failOnViolation) {
+        this.meterRegistry = meterRegistry;
+        this.endpointBudgets = endpointBudgets;
+        this.defaultBudget = defaultBudget;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.failOnViolation = failOnViolation;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStatements statements = RequestStatements.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatements.end();
+        }
+        // Set by Spring MVC once a handler matched
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern) {
+            check(request.getMethod() + " " + pattern, endpointBudgets.getOrDefault(pattern, defaultBudget), statements);
+        }
+    }
+
+    private void check(String endpoint, int budget, RequestStatements statements) {
+        DistributionSummary.builder("eventify.sql.statements")
+                .description("SQL statements prepared per request")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(statements.getTotal());
+
+        List<String> violations = new ArrayList<>(2);
+        Map.Entry<String, Integer> mostRepeated = statements.mostRepeated();
+        if (statements.getTotal() > budget) {
+            violations.add(statements.getTotal() + " statements exceed the budget of " + budget);
+            violationCounter("eventify.sql.budget.exceeded", "Requests that prepared more statements than their budget", endpoint)
+                    .increment();
+        }
+        if (mostRepeated != null && mostRepeated.getValue() >= nPlusOneThreshold) {
+            violations.add("the same statement ran " + mostRepeated.getValue() + " times (N+1)");
+            violationCounter("eventify.sql.n-plus-one", "Requests that prepared one statement repeatedly", endpoint)
+                    .increment();
+        }
+        if (violations.isEmpty()) {
+            return;
+        }
+        String message = endpoint + ": " + String.join(", ", violations) + "; most repeated: " + mostRepeated.getKey();
+        log.warn("SQL budget violated by {}", message);
+        if (failOnViolation) {
+            throw new SqlBudgetExceededException(message);
+        }
+    }
+
+    private Counter violationCounter(String name, String description, String endpoint) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,24 @@
+package com.eventify.domain;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import java.time.Instant;
+
+/**
+ * Something that happened to a registration or an event, published on the {@link DomainEventBus}
+ * once the transaction that caused it has committed.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(RegistrationCreated.class),
+        @JsonSubTypes.Type(RegistrationCancelled.class),
+        @JsonSubTypes.Type(EventUpdated.class),
+        @JsonSubTypes.Type(EventDeleted.class)
+})
+public sealed interface DomainEvent permits RegistrationCreated, RegistrationCancelled, EventUpdated, EventDeleted {
+
+    Long eventId();
+
+    Instant occurredAt();
+}
@@ -0,0 +1,312 @@
+package com.eventify.domain;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process pipeline for {@link DomainEvent}s. Events enter a bounded ring buffer after the
+ * publishing transaction commits, and every {@link DomainEventConsumer} reads the buffer on its
+ * own thread in batches, so consumers add no latency to the request that caused the event.
+ * A slot is reused only after all consumers have passed it; when the buffer stays full for the
+ * publish timeout the event is dropped and counted, and the outbox, if enabled, delivers it later.
+ */
+@Component
+public class DomainEventBus implements SmartLifecycle, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventBus.class);
+
+    private final DomainEventOutbox outbox;
+    private final int batchSize;
+    private final long publishTimeoutNanos;
+    private final Duration redeliverAfter;
+    private final int relayBatchSize;
+
+    private final Entry[] ring;
+    private final int mask;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+    private final Condition freed = lock.newCondition();
+    private volatile long nextSequence;
+    private final List<Worker> workers;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final Queue<Entry> unacknowledged = new ConcurrentLinkedQueue<>();
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private volatile boolean running;
+
+    public DomainEventBus(List<DomainEventConsumer> consumers,
+                          DomainEventOutbox outbox,
+                          @Value("${eventify.domain-events.buffer-size:8192}") int bufferSize,
+                          @Value("${eventify.domain-events.batch-size:256}") int batchSize,
+                          @Value("${eventify.domain-events.publish-timeout:100ms}") Duration publishTimeout,
+                          @Value("${eventify.domain-events.outbox.redeliver-after:30s}") Duration redeliverAfter,
+                          @Value("${eventify.domain-events.outbox.batch-size:500}") int relayBatchSize) {
+        this.outbox = outbox;
+        this.batchSize = batchSize;
+        this.publishTimeoutNanos = publishTimeout.toNanos();
+        this.redeliverAfter = redeliverAfter;
+        this.relayBatchSize = relayBatchSize;
+        // Power of two, so a sequence maps to its slot with a mask
+        int capacity = Integer.bitCount(bufferSize) == 1 ? bufferSize : Integer.highestOneBit(bufferSize) << 1;
+        this.ring = new Entry[capacity];
+        this.mask = capacity - 1;
+        this.workers = consumers.stream().map(Worker::new).toList();
+    }
+
+    /**
+     * Publishes the event once the current transaction commits, or right away outside a transaction.
+     * With the outbox enabled the event is also stored in the current transaction.
+     */
+    public void publish(DomainEvent event) {
+        Long outboxId = outbox.isEnabled() ? outbox.append(event) : null;
+        Entry entry = new Entry(event, outboxId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(entry);
+            }
+        });
+    }
+
+    private boolean enqueue(Entry entry) {
+        lock.lock();
+        try {
+            long remaining = publishTimeoutNanos;
+            while (nextSequence - slowestSequence() >= ring.length) {
+                if (remaining <= 0) {
+                    dropped.incrementAndGet();
+                    log.warn("Domain event buffer is full, dropping {}", entry.event);
+                    return false;
+                }
+                remaining = freed.awaitNanos(remaining);
+            }
+            entry.sequence = nextSequence;
+            ring[(int) (nextSequence & mask)] = entry;
+            if (entry.outboxId != null) {
+                inFlight.add(entry.outboxId);
+                unacknowledged.add(entry);
+            }
+            nextSequence++;
+            published.signalAll();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.incrementAndGet();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Caller holds the lock
+    private long slowestSequence() {
+        long slowest = nextSequence;
+        for (Worker worker : workers) {
+            slowest = Math.min(slowest, worker.sequence);
+        }
+        return slowest;
+    }
+
+    /**
+     * Deletes outbox rows of events every consumer has handled and redelivers rows that were
+     * not handled in time (dropped, failed in a consumer, or left over from before a restart).
+     */
+    @Scheduled(fixedDelayString = "${eventify.domain-events.outbox.relay-interval:1s}")
+    public void relayOutbox() {
+        if (!outbox.isEnabled()) {
+            return;
+        }
+        long handled;
+        lock.lock();
+        try {
+            handled = slowestSequence();
+        } finally {
+            lock.unlock();
+        }
+
+        List<Long> delivered = new ArrayList<>();
+        for (Entry entry = unacknowledged.peek(); entry != null && entry.sequence < handled; entry = unacknowledged.peek()) {
+            unacknowledged.poll();
+            if (!entry.failed) {
+                delivered.add(entry.outboxId);
+            } else {
+                // Stays in the outbox and is picked up again below once it is old enough
+                inFlight.remove(entry.outboxId);
+            }
+        }
+        outbox.delete(delivered);
+        delivered.forEach(inFlight::remove);
+
+        for (DomainEventOutbox.StoredEvent stored : outbox.findOlderThan(Instant.now().minus(redeliverAfter), relayBatchSize)) {
+            if (!inFlight.contains(stored.id())) {
+                enqueue(new Entry(stored.event(), stored.id()));
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        workers.forEach(Worker::start);
+    }
+
+    /**
+     * Lets every consumer drain what was already published, then ends its thread.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        lock.lock();
+        try {
+            published.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (Worker worker : workers) {
+            try {
+                worker.thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Worker worker : workers) {
+            Gauge.builder("eventify.domain-events.lag", worker, w -> nextSequence - w.sequence)
+                    .description("Published domain events the consumer has not handled yet")
+                    .tag("consumer", worker.consumer.consumerName())
+                    .register(registry);
+            worker.failures = Counter.builder("eventify.domain-events.failures")
+                    .description("Domain events whose consumer threw")
+                    .tag("consumer", worker.consumer.consumerName())
+                    .register(registry);
+        }
+        Gauge.builder("eventify.domain-events.dropped", dropped, AtomicLong::get)
+                .description("Domain events dropped because the buffer stayed full")
+                .register(registry);
+    }
+
+    long lag(String consumerName) {
+        return workers.stream()
+                .filter(worker -> worker.consumer.consumerName().equals(consumerName))
+                .mapToLong(worker -> nextSequence - worker.sequence)
+                .sum();
+    }
+
+    long droppedCount() {
+        return dropped.get();
+    }
+
+    private static final class Entry {
+
+        private final DomainEvent event;
+        private final Long outboxId;
+        private long sequence;
+        private volatile boolean failed;
+
+        Entry(DomainEvent event, Long outboxId) {
+            this.event = event;
+            this.outboxId = outboxId;
+        }
+    }
+
+    private final class Worker implements Runnable {
+
+        private final DomainEventConsumer consumer;
+        private final Thread thread;
+        // Next sequence to handle; only this worker writes it, under the lock
+        private volatile long sequence;
+        private volatile Counter failures;
+
+        Worker(DomainEventConsumer consumer) {
+            this.consumer = consumer;
+            this.thread = new Thread(this, "domain-events-" + consumer.consumerName());
+            this.thread.setDaemon(true);
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            List<Entry> batch = new ArrayList<>(batchSize);
+            List<DomainEvent> events = new ArrayList<>(batchSize);
+            while (true) {
+                lock.lock();
+                try {
+                    while (sequence == nextSequence) {
+                        if (!running) {
+                            return;
+                        }
+                        published.await(100, TimeUnit.MILLISECONDS);
+                    }
+                    long end = Math.min(nextSequence, sequence + batchSize);
+                    for (long s = sequence; s < end; s++) {
+                        batch.add(ring[(int) (s & mask)]);
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                } finally {
+                    lock.unlock();
+                }
+
+                batch.forEach(entry -> events.add(entry.event));
+                try {
+                    consumer.onDomainEvents(events);
+                } catch (RuntimeException e) {
+                    log.error("Domain event consumer {} failed on {} events", consumer.consumerName(), events.size(), e);
+                    batch.forEach(entry -> entry.failed = true);
+                    if (failures != null) {
+                        failures.increment(events.size());
+                    }
+                }
+
+                lock.lock();
+                try {
+                    sequence += batch.size();
+                    freed.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                batch.clear();
+                events.clear();
+            }
+        }
+    }
+}
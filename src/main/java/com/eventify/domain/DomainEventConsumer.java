@@ -0,0 +1,18 @@
+package com.eventify.domain;
+
+import java.util.List;
+
+/**
+ * Receives domain events in publication order, in batches, on a thread of its own.
+ * Delivery is at-least-once when the outbox is enabled, so handlers should be idempotent
+ * or tolerate the occasional repeat.
+ */
+public interface DomainEventConsumer {
+
+    /**
+     * Used in thread names and as the {@code consumer} metric tag.
+     */
+    String consumerName();
+
+    void onDomainEvents(List<DomainEvent> events);
+}
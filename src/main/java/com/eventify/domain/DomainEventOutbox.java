@@ -0,0 +1,108 @@
+package com.eventify.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Transactional outbox, enabled with {@code eventify.domain-events.outbox.enabled=true}. Each
+ * published event is also inserted into {@code domain_event_outbox} inside the publishing
+ * transaction, so it is stored if and only if the change it describes commits. Rows are deleted
+ * once every consumer has handled the event; rows left behind by a crash, a full buffer or a
+ * failing consumer are delivered again.
+ */
+@Component
+public class DomainEventOutbox {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventOutbox.class);
+
+    private static final String INSERT = "INSERT INTO domain_event_outbox (event_type, payload, created_at) VALUES (?, ?, ?)";
+    private static final String SELECT_OLDER_THAN = """
+            SELECT id, payload FROM domain_event_outbox
+            WHERE created_at < ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private final boolean enabled;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public DomainEventOutbox(@Value("${eventify.domain-events.outbox.enabled:false}") boolean enabled,
+                             JdbcTemplate jdbcTemplate,
+                             ObjectMapper objectMapper) {
+        this.enabled = enabled;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Stores the event in the caller's transaction and returns the row id.
+     */
+    public Long append(DomainEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event, e);
+        }
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT, new String[]{"id"});
+            statement.setString(1, event.getClass().getSimpleName());
+            statement.setString(2, payload);
+            statement.setTimestamp(3, Timestamp.from(event.occurredAt()));
+            return statement;
+        }, keys);
+        return Objects.requireNonNull(keys.getKey()).longValue();
+    }
+
+    /**
+     * Events stored before {@code cutoff}, oldest first. Rows that can no longer be read are logged
+     * with their payload and deleted, as they would otherwise fill every later batch.
+     */
+    public List<StoredEvent> findOlderThan(Instant cutoff, int limit) {
+        List<Long> unreadable = new ArrayList<>();
+        List<StoredEvent> events = jdbcTemplate.query(SELECT_OLDER_THAN, (row, rowNum) -> {
+            long id = row.getLong(1);
+            String payload = row.getString(2);
+            try {
+                return new StoredEvent(id, objectMapper.readValue(payload, DomainEvent.class));
+            } catch (JsonProcessingException e) {
+                log.error("Dropping unreadable outbox row {}: {}", id, payload, e);
+                unreadable.add(id);
+                return null;
+            }
+        }, Timestamp.from(cutoff), limit).stream().filter(Objects::nonNull).toList();
+        delete(unreadable);
+        return events;
+    }
+
+    public void delete(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM domain_event_outbox WHERE id = ?", ids, ids.size(),
+                    (statement, id) -> statement.setLong(1, id));
+        }
+    }
+
+    public record StoredEvent(Long id, DomainEvent event) {
+    }
+}
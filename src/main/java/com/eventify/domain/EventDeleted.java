@@ -0,0 +1,13 @@
+package com.eventify.domain;
+
+import java.time.Instant;
+
+/**
+ * The event and all of its registrations were deleted.
+ */
+public record EventDeleted(Long eventId, Instant occurredAt) implements DomainEvent {
+
+    public EventDeleted(Long eventId) {
+        this(eventId, Instant.now());
+    }
+}
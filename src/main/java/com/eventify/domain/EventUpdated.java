@@ -0,0 +1,10 @@
+package com.eventify.domain;
+
+import java.time.Instant;
+
+public record EventUpdated(Long eventId, Instant occurredAt) implements DomainEvent {
+
+    public EventUpdated(Long eventId) {
+        this(eventId, Instant.now());
+    }
+}
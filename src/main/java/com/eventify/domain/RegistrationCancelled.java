@@ -0,0 +1,11 @@
+package com.eventify.domain;
+
+import java.time.Instant;
+
+public record RegistrationCancelled(Long registrationId, Long userId, Long eventId, Instant occurredAt)
+        implements DomainEvent {
+
+    public RegistrationCancelled(Long registrationId, Long userId, Long eventId) {
+        this(registrationId, userId, eventId, Instant.now());
+    }
+}
@@ -0,0 +1,14 @@
+package com.eventify.domain;
+
+import java.time.Instant;
+
+/**
+ * @param registrationId {@code null} for registrations written through the journal, which are inserted in batches
+ */
+public record RegistrationCreated(Long registrationId, Long userId, Long eventId, Instant occurredAt)
+        implements DomainEvent {
+
+    public RegistrationCreated(Long registrationId, Long userId, Long eventId) {
+        this(registrationId, userId, eventId, Instant.now());
+    }
+}
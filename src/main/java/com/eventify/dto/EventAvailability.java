@@ -0,0 +1,19 @@
+package com.eventify.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventAvailability {
+
+    private Long eventId;
+    private Integer capacity;
+    private Long registrationCount;
+
+    public Long getAvailableSpots() {
+        return capacity != null ? capacity - registrationCount : null;
+    }
+}
@@ -1,9 +1,11 @@
 package com.eventify.dto;
 
+import com.eventify.model.Event;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -15,12 +17,16 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class EventDto {
 
+    // Limits match the VARCHAR(255) columns, so an oversized value is rejected here instead of failing the insert
     @NotBlank(message = "Title is required")
+    @Size(max = 255, message = "Title must be at most 255 characters")
     private String title;
 
+    @Size(max = 255, message = "Description must be at most 255 characters")
     private String description;
 
     @NotBlank(message = "Location is required")
+    @Size(max = 255, message = "Location must be at most 255 characters")
     private String location;
 
     @NotNull(message = "Date and time is required")
@@ -30,4 +36,9 @@ public class EventDto {
     @NotNull(message = "Capacity is required")
     @Min(value = 1, message = "Capacity must be at least 1")
     private Integer capacity;
+
+    public static EventDto fromEvent(Event event) {
+        return new EventDto(event.getTitle(), event.getDescription(), event.getLocation(),
+                event.getDateTime(), event.getCapacity());
+    }
 }
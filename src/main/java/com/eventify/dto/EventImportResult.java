@@ -0,0 +1,39 @@
+package com.eventify.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of one record of a bulk event import, written back as one NDJSON line.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventImportResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String INVALID = "INVALID";
+    public static final String FAILED = "FAILED";
+
+    private long line;
+    private String status;
+    private Long eventId;
+    private List<String> errors;
+
+    public static EventImportResult created(long line, Long eventId) {
+        return new EventImportResult(line, CREATED, eventId, null);
+    }
+
+    public static EventImportResult invalid(long line, List<String> errors) {
+        return new EventImportResult(line, INVALID, null, errors);
+    }
+
+    public static EventImportResult failed(long line, String error) {
+        return new EventImportResult(line, FAILED, null, List.of(error));
+    }
+}
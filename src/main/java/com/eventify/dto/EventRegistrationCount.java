@@ -0,0 +1,14 @@
+package com.eventify.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventRegistrationCount {
+
+    private Long eventId;
+    private Long registrationCount;
+}
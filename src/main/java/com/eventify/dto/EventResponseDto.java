@@ -1,6 +1,7 @@
 package com.eventify.dto;
 
 import com.eventify.model.Event;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -19,8 +20,13 @@ public class EventResponseDto {
     private LocalDateTime dateTime;
     private Integer capacity;
     private Long organizerId;
+    private Long version;
     private Long availableSpots;
 
+    // Only set for authenticated callers; omitted from anonymous responses
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean registered;
+
     public static EventResponseDto fromEvent(Event event) {
         EventResponseDto dto = new EventResponseDto();
         dto.setId(event.getId());
@@ -30,6 +36,7 @@ public class EventResponseDto {
         dto.setDateTime(event.getDateTime());
         dto.setCapacity(event.getCapacity());
         dto.setOrganizerId(event.getOrganizerId());
+        dto.setVersion(event.getVersion());
         return dto;
     }
 
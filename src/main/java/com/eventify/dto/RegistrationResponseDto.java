@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class RegistrationResponseDto {
 
+    // Null while the registration is still pending in the registration journal
     private Long id;
     private Long userId;
     private Long eventId;
@@ -0,0 +1,10 @@
+package com.eventify.journal;
+
+import java.time.LocalDateTime;
+
+/**
+ * A registration that has been appended to the journal.
+ * {@code appendedAtNanos} is process-local and only used for flush-lag reporting.
+ */
+public record JournalEntry(long sequence, Long userId, Long eventId, LocalDateTime registeredAt, long appendedAtNanos) {
+}
@@ -0,0 +1,190 @@
+package com.eventify.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Fixed-size, memory-mapped append-only file of registration records.
+ *
+ * <p>The header holds the sequence number of the first record in the file and the checkpoint,
+ * the highest sequence known to be in the database. Records are fixed-size and only count as
+ * written when their magic, CRC and sequence (exactly one more than the previous) all match,
+ * so a torn write or the stale tail left behind by {@link #resetIfLargerThan(int)} ends the
+ * scan on recovery.
+ *
+ * <p>Not thread-safe for writers: callers serialize {@link #append} and {@link #resetIfLargerThan}.
+ * {@link #force(int)} may be called concurrently and batches overlapping requests into one sync.
+ */
+public class JournalFile implements Closeable {
+
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 48;
+
+    private static final int FILE_MAGIC = 0x45564A31;
+    private static final int RECORD_MAGIC = 0x52454731;
+    private static final int BASE_SEQUENCE_OFFSET = 8;
+    private static final int CHECKPOINT_OFFSET = 16;
+    private static final int PAYLOAD_OFFSET = 8;
+    private static final int PAYLOAD_SIZE = 36;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final Object forceLock = new Object();
+
+    private volatile int position = HEADER_SIZE;
+    private long nextSequence;
+    private int forcedPosition = HEADER_SIZE;
+
+    private JournalFile(FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Opens or creates the file. {@link #recover()} must be called before appending.
+     */
+    public static JournalFile open(Path path, int capacity) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        int size = (int) Math.max(channel.size(), capacity);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        JournalFile file = new JournalFile(channel, buffer, size);
+        if (buffer.getInt(0) != FILE_MAGIC) {
+            buffer.putInt(0, FILE_MAGIC);
+            buffer.putLong(BASE_SEQUENCE_OFFSET, 1);
+            buffer.putLong(CHECKPOINT_OFFSET, 0);
+            buffer.force(0, HEADER_SIZE);
+        }
+        return file;
+    }
+
+    /**
+     * Scans the file, positions it after the last valid record and returns the records
+     * past the checkpoint, in sequence order.
+     */
+    public List<JournalEntry> recover() {
+        long checkpoint = buffer.getLong(CHECKPOINT_OFFSET);
+        long expected = buffer.getLong(BASE_SEQUENCE_OFFSET);
+        long now = System.nanoTime();
+        List<JournalEntry> unflushed = new ArrayList<>();
+        int offset = HEADER_SIZE;
+        while (offset + RECORD_SIZE <= capacity && isValid(offset, expected)) {
+            if (expected > checkpoint) {
+                unflushed.add(read(offset, now));
+            }
+            expected++;
+            offset += RECORD_SIZE;
+        }
+        nextSequence = expected;
+        position = offset;
+        forcedPosition = offset;
+        return unflushed;
+    }
+
+    /**
+     * Writes a record without syncing it and returns it, or {@code null} if the file is full.
+     */
+    public JournalEntry append(Long userId, Long eventId, LocalDateTime registeredAt) {
+        int offset = position;
+        if (offset + RECORD_SIZE > capacity) {
+            return null;
+        }
+        long sequence = nextSequence;
+        buffer.putLong(offset + 8, sequence);
+        buffer.putLong(offset + 16, userId);
+        buffer.putLong(offset + 24, eventId);
+        buffer.putLong(offset + 32, registeredAt.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(offset + 40, registeredAt.getNano());
+        buffer.putInt(offset + 44, 0);
+        buffer.putInt(offset + 4, crc(offset));
+        // Magic last: a record is not recognised until all of it has been written
+        buffer.putInt(offset, RECORD_MAGIC);
+
+        nextSequence = sequence + 1;
+        position = offset + RECORD_SIZE;
+        return new JournalEntry(sequence, userId, eventId, registeredAt, System.nanoTime());
+    }
+
+    /**
+     * Syncs everything written so far, unless a concurrent call has already synced past {@code upTo}.
+     */
+    public void force(int upTo) {
+        synchronized (forceLock) {
+            if (forcedPosition >= upTo) {
+                return;
+            }
+            int target = position;
+            buffer.force(forcedPosition, target - forcedPosition);
+            forcedPosition = target;
+        }
+    }
+
+    public void checkpoint(long sequence) {
+        buffer.putLong(CHECKPOINT_OFFSET, sequence);
+        buffer.force(0, HEADER_SIZE);
+    }
+
+    /**
+     * Starts writing from the beginning again. Only valid once every record has been checkpointed.
+     */
+    public boolean resetIfLargerThan(int threshold) {
+        if (position <= threshold) {
+            return false;
+        }
+        synchronized (forceLock) {
+            buffer.putLong(BASE_SEQUENCE_OFFSET, nextSequence);
+            buffer.force(0, HEADER_SIZE);
+            position = HEADER_SIZE;
+            forcedPosition = HEADER_SIZE;
+        }
+        return true;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private boolean isValid(int offset, long expectedSequence) {
+        return buffer.getInt(offset) == RECORD_MAGIC
+                && buffer.getLong(offset + 8) == expectedSequence
+                && buffer.getInt(offset + 4) == crc(offset);
+    }
+
+    private JournalEntry read(int offset, long appendedAtNanos) {
+        LocalDateTime registeredAt = LocalDateTime.ofEpochSecond(
+                buffer.getLong(offset + 32), buffer.getInt(offset + 40), ZoneOffset.UTC);
+        return new JournalEntry(buffer.getLong(offset + 8), buffer.getLong(offset + 16),
+                buffer.getLong(offset + 24), registeredAt, appendedAtNanos);
+    }
+
+    private int crc(int offset) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset + PAYLOAD_OFFSET, PAYLOAD_SIZE));
+        return (int) crc.getValue();
+    }
+}
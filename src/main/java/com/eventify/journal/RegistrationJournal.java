@@ -0,0 +1,323 @@
+package com.eventify.journal;
+
+import com.eventify.domain.DomainEventBus;
+import com.eventify.domain.RegistrationCreated;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind mode for registrations, enabled with {@code eventify.registration.journal.enabled=true}.
+ * A registration is acknowledged once its record is synced to the memory-mapped journal; a scheduled
+ * flusher inserts pending records into the database in batches and then advances the journal's
+ * checkpoint. Records past the checkpoint are replayed on startup, and the insert skips rows that
+ * already exist, so a crash between insert and checkpoint does not duplicate registrations.
+ * Until flushed, pending registrations are counted by the duplicate and capacity checks.
+ * <p>
+ * {@link #flush()} commits in its own transaction and must not be called while the caller holds
+ * one: the caller's connection would stay checked out while the flush waits for a second.
+ */
+@Component
+public class RegistrationJournal implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrationJournal.class);
+
+    private static final String INSERT_IF_ABSENT = """
+            INSERT INTO registrations (user_id, event_id, registered_at, status)
+            SELECT CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS TIMESTAMP), CAST(? AS VARCHAR(255))
+            WHERE NOT EXISTS (SELECT 1 FROM registrations WHERE user_id = ? AND event_id = ?)
+            """;
+
+    private final boolean enabled;
+    private final Path path;
+    private final int capacity;
+    private final int batchSize;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventBus domainEventBus;
+
+    private final ConcurrentSkipListMap<Long, JournalEntry> pending = new ConcurrentSkipListMap<>();
+    private final Set<UserEvent> pendingKeys = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Integer> pendingPerEvent = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    // Write-locked from just before a batch commits until it is untracked; see countWithPending
+    private final StampedLock commitLock = new StampedLock();
+    private long commitStamp;
+    private JournalFile file;
+
+    public RegistrationJournal(@Value("${eventify.registration.journal.enabled:false}") boolean enabled,
+                               @Value("${eventify.registration.journal.path:data/registrations.journal}") Path path,
+                               @Value("${eventify.registration.journal.capacity:64MB}") DataSize capacity,
+                               @Value("${eventify.registration.journal.batch-size:1000}") int batchSize,
+                               JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               DomainEventBus domainEventBus) {
+        this.enabled = enabled;
+        this.path = path;
+        this.capacity = Math.toIntExact(capacity.toBytes());
+        this.batchSize = batchSize;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // A batch must be committed before it is untracked, never folded into a caller's transaction
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.domainEventBus = domainEventBus;
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        file = JournalFile.open(path, capacity);
+        List<JournalEntry> unflushed = file.recover();
+        unflushed.forEach(this::track);
+        if (!unflushed.isEmpty()) {
+            log.warn("Replaying {} unflushed registrations from {}", unflushed.size(), path);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Durably appends a registration. Returns {@code false} when the journal is full,
+     * in which case the caller should write it to the database directly.
+     */
+    public boolean append(Long userId, Long eventId, LocalDateTime registeredAt) {
+        JournalEntry entry;
+        int end;
+        synchronized (this) {
+            entry = file.append(userId, eventId, registeredAt);
+            if (entry == null) {
+                log.warn("Registration journal {} is full, writing through to the database", path);
+                return false;
+            }
+            // Tracked under the same lock that assigns sequences, so a checkpoint never passes an untracked record
+            track(entry);
+            end = file.position();
+        }
+        file.force(end);
+        return true;
+    }
+
+    public boolean isPending(Long userId, Long eventId) {
+        return enabled && pendingKeys.contains(new UserEvent(userId, eventId));
+    }
+
+    public List<Long> pendingEventIds(Long userId) {
+        return pendingEntries(userId).stream()
+                .map(JournalEntry::eventId)
+                .toList();
+    }
+
+    /**
+     * The user's registrations not yet flushed, oldest first.
+     */
+    public List<JournalEntry> pendingEntries(Long userId) {
+        if (!enabled) {
+            return List.of();
+        }
+        return pending.values().stream()
+                .filter(entry -> entry.userId().equals(userId))
+                .toList();
+    }
+
+    public long pendingCount(Long eventId) {
+        if (!enabled) {
+            return 0;
+        }
+        return pendingPerEvent.getOrDefault(eventId, 0);
+    }
+
+    /**
+     * The committed registrations of an event, as counted by {@code committedCount}, plus the pending
+     * ones. A flush that commits while the database is being counted would make its batch show up in
+     * both, so the count is taken again until no commit overlapped it.
+     */
+    public long countWithPending(Long eventId, LongSupplier committedCount) {
+        if (!enabled) {
+            return committedCount.getAsLong();
+        }
+        return withoutOverlappingCommit(() -> committedCount.getAsLong() + pendingPerEvent.getOrDefault(eventId, 0));
+    }
+
+    /**
+     * As {@link #countWithPending}, for several events counted at once; events without committed
+     * or pending registrations may be left out.
+     */
+    public Map<Long, Long> countsWithPending(Collection<Long> eventIds, Supplier<Map<Long, Long>> committedCounts) {
+        if (!enabled) {
+            return committedCounts.get();
+        }
+        return withoutOverlappingCommit(() -> {
+            Map<Long, Long> counts = new HashMap<>(committedCounts.get());
+            for (Long eventId : eventIds) {
+                Integer pendingForEvent = pendingPerEvent.get(eventId);
+                if (pendingForEvent != null) {
+                    counts.merge(eventId, pendingForEvent.longValue(), Long::sum);
+                }
+            }
+            return counts;
+        });
+    }
+
+    private <T> T withoutOverlappingCommit(Supplier<T> count) {
+        while (true) {
+            long stamp = commitLock.tryOptimisticRead();
+            if (stamp != 0) {
+                T result = count.get();
+                if (commitLock.validate(stamp)) {
+                    return result;
+                }
+            }
+            // Wait for the committing batch to be untracked; the lock is not held while counting
+            commitLock.unlockRead(commitLock.readLock());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${eventify.registration.journal.flush-interval:200ms}")
+    public void flushScheduled() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Flushing the registration journal failed, retrying on the next interval", e);
+        }
+    }
+
+    /**
+     * Inserts all pending registrations into the database.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            flushPending();
+        }
+    }
+
+    private void flushPending() {
+        while (!pending.isEmpty()) {
+            List<JournalEntry> batch = pending.values().stream().limit(batchSize).toList();
+            try {
+                insert(batch);
+                batch.forEach(this::untrack);
+            } finally {
+                if (commitStamp != 0) {
+                    commitLock.unlockWrite(commitStamp);
+                    commitStamp = 0;
+                }
+            }
+            // A crash before this point replays the batch, and the insert skips the existing rows
+            file.checkpoint(batch.get(batch.size() - 1).sequence());
+        }
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                file.resetIfLargerThan(file.capacity() / 2);
+            }
+        }
+    }
+
+    // Only called under flushLock, so commitStamp has a single writer
+    private void insert(List<JournalEntry> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            int[][] inserted = jdbcTemplate.batchUpdate(
+                    INSERT_IF_ABSENT, batch, batch.size(), (statement, entry) -> {
+                        statement.setLong(1, entry.userId());
+                        statement.setLong(2, entry.eventId());
+                        statement.setTimestamp(3, Timestamp.valueOf(entry.registeredAt()));
+                        statement.setString(4, "CONFIRMED");
+                        statement.setLong(5, entry.userId());
+                        statement.setLong(6, entry.eventId());
+                    });
+            for (int i = 0; i < batch.size(); i++) {
+                // Drivers may report SUCCESS_NO_INFO (-2); only 0 means the row already existed
+                if (inserted[0][i] != 0) {
+                    JournalEntry entry = batch.get(i);
+                    domainEventBus.publish(new RegistrationCreated(null, entry.userId(), entry.eventId()));
+                }
+            }
+            // Taken last, once this transaction holds its connection, and released after untracking
+            commitStamp = commitLock.writeLock();
+        });
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (file == null) {
+            return;
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Could not flush the registration journal on shutdown; it will be replayed on startup", e);
+        }
+        file.close();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!enabled) {
+            return;
+        }
+        Gauge.builder("eventify.registration.journal.pending", pending, Map::size)
+                .description("Registrations acknowledged but not yet written to the database")
+                .register(registry);
+        Gauge.builder("eventify.registration.journal.size", this, journal -> journal.file.position())
+                .description("Bytes used in the registration journal")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("eventify.registration.journal.flush.lag", this, RegistrationJournal::flushLagSeconds)
+                .description("Age of the oldest registration not yet written to the database")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    private double flushLagSeconds() {
+        Map.Entry<Long, JournalEntry> oldest = pending.firstEntry();
+        return oldest != null ? (System.nanoTime() - oldest.getValue().appendedAtNanos()) / 1e9 : 0;
+    }
+
+    private void track(JournalEntry entry) {
+        pending.put(entry.sequence(), entry);
+        pendingKeys.add(new UserEvent(entry.userId(), entry.eventId()));
+        pendingPerEvent.merge(entry.eventId(), 1, Integer::sum);
+    }
+
+    private void untrack(JournalEntry entry) {
+        pending.remove(entry.sequence());
+        pendingKeys.remove(new UserEvent(entry.userId(), entry.eventId()));
+        pendingPerEvent.computeIfPresent(entry.eventId(), (id, count) -> count == 1 ? null : count - 1);
+    }
+
+    private record UserEvent(Long userId, Long eventId) {
+    }
+}
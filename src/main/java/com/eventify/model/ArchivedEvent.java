@@ -0,0 +1,44 @@
+package com.eventify.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * A past event moved out of {@code events} by the archival job. Read-only; keeps the original id.
+ */
+@Entity
+@Table(name = "events_archive")
+@Immutable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedEvent {
+    @Id
+    private Long id;
+
+    private String title;
+    private String description;
+    private String location;
+    private LocalDateTime dateTime;
+    private Integer capacity;
+    private Long organizerId;
+    private Long version;
+    private LocalDateTime archivedAt;
+
+    // Detached copy, so archived events go through the same response mapping as live ones
+    public Event toEvent() {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle(title);
+        event.setDescription(description);
+        event.setLocation(location);
+        event.setDateTime(dateTime);
+        event.setCapacity(capacity);
+        event.setOrganizerId(organizerId);
+        event.setVersion(version);
+        return event;
+    }
+}
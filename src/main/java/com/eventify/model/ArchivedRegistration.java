@@ -0,0 +1,37 @@
+package com.eventify.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * A registration archived together with its event. Read-only; keeps the original id.
+ */
+@Entity
+@Table(name = "registrations_archive")
+@Immutable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedRegistration {
+    @Id
+    private Long id;
+
+    private Long userId;
+    private Long eventId;
+    private LocalDateTime registeredAt;
+    private String status;
+    private LocalDateTime archivedAt;
+
+    public Registration toRegistration() {
+        Registration registration = new Registration();
+        registration.setId(id);
+        registration.setUserId(userId);
+        registration.setEventId(eventId);
+        registration.setRegisteredAt(registeredAt);
+        registration.setStatus(status);
+        return registration;
+    }
+}
@@ -2,10 +2,18 @@ package com.eventify.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "events")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
+// UPDATEs list only the changed columns, so small edits do not rewrite the description
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,4 +28,8 @@ public class Event {
     private LocalDateTime dateTime;
     private Integer capacity;
     private Long organizerId;
-}
\ No newline at end of file
+
+    // Bumped on every update; a stale version fails the update instead of overwriting it
+    @Version
+    private Long version;
+}
@@ -0,0 +1,13 @@
+package com.eventify.repository;
+
+import com.eventify.model.ArchivedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEvent, Long> {
+
+    List<ArchivedEvent> findByOrganizerId(Long organizerId);
+}
@@ -0,0 +1,24 @@
+package com.eventify.repository;
+
+import com.eventify.dto.EventRegistrationCount;
+import com.eventify.model.ArchivedRegistration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedRegistrationRepository extends JpaRepository<ArchivedRegistration, Long> {
+
+    List<ArchivedRegistration> findByUserId(Long userId);
+
+    long countByEventId(Long eventId);
+
+    // Events without archived registrations are left out
+    @Query("SELECT new com.eventify.dto.EventRegistrationCount(r.eventId, COUNT(r.id)) "
+            + "FROM ArchivedRegistration r WHERE r.eventId IN :eventIds GROUP BY r.eventId")
+    List<EventRegistrationCount> countByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+}
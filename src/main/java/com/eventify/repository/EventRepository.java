@@ -1,10 +1,17 @@
 package com.eventify.repository;
 
+import com.eventify.dto.EventAvailability;
 import com.eventify.model.Event;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,7 +21,14 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     List<Event> findByDateTimeAfter(LocalDateTime dateTime);
 
+    // Query-cached: callers should pass a coarse (e.g. minute-truncated) timestamp so entries get reused
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Event> findByDateTimeAfterOrderByDateTimeAsc(LocalDateTime dateTime);
 
     List<Event> findByOrganizerIdAndDateTimeAfter(Long organizerId, LocalDateTime dateTime);
+
+    @Query("SELECT new com.eventify.dto.EventAvailability(e.id, e.capacity, COUNT(r.id)) "
+            + "FROM Event e LEFT JOIN Registration r ON r.eventId = e.id "
+            + "WHERE e.id IN :ids GROUP BY e.id, e.capacity")
+    List<EventAvailability> findAvailabilityByIdIn(@Param("ids") Collection<Long> ids);
 }
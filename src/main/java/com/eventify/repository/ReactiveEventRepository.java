@@ -0,0 +1,87 @@
+package com.eventify.repository;
+
+import com.eventify.dto.EventResponseDto;
+import com.eventify.model.Event;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking read model for public event listings, backed by R2DBC.
+ * The connection pool is owned here rather than exposed as a bean so it does not
+ * displace the JDBC DataSource used by JPA.
+ */
+@Repository
+public class ReactiveEventRepository implements DisposableBean {
+
+    private static final String SELECT_WITH_REGISTRATION_COUNT = """
+            SELECT e.id, e.title, e.description, e.location, e.date_time, e.capacity, e.organizer_id, e.version,
+                   (SELECT COUNT(*) FROM registrations r WHERE r.event_id = e.id) AS registration_count
+            FROM events e
+            """;
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveEventRepository(@Value("${eventify.reactive.r2dbc.url}") String url,
+                                   @Value("${eventify.reactive.r2dbc.username:}") String username,
+                                   @Value("${eventify.reactive.r2dbc.password:}") String password,
+                                   @Value("${eventify.reactive.r2dbc.max-pool-size:20}") int maxPoolSize) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (StringUtils.hasText(username)) {
+            options.option(ConnectionFactoryOptions.USER, username);
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        this.connectionPool = new ConnectionPool(
+                ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                        .name("reactive-reads")
+                        .maxSize(maxPoolSize)
+                        .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    public Flux<EventResponseDto> findUpcomingWithAvailability(LocalDateTime after) {
+        return databaseClient.sql(SELECT_WITH_REGISTRATION_COUNT
+                        + "WHERE e.date_time > :after ORDER BY e.date_time ASC")
+                .bind("after", after)
+                .map((row, metadata) -> toDto(row))
+                .all();
+    }
+
+    public Mono<EventResponseDto> findByIdWithAvailability(Long id) {
+        return databaseClient.sql(SELECT_WITH_REGISTRATION_COUNT + "WHERE e.id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> toDto(row))
+                .one();
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static EventResponseDto toDto(Row row) {
+        Event event = new Event();
+        event.setId(row.get("id", Long.class));
+        event.setTitle(row.get("title", String.class));
+        event.setDescription(row.get("description", String.class));
+        event.setLocation(row.get("location", String.class));
+        event.setDateTime(row.get("date_time", LocalDateTime.class));
+        event.setCapacity(row.get("capacity", Integer.class));
+        event.setOrganizerId(row.get("organizer_id", Long.class));
+        event.setVersion(row.get("version", Long.class));
+        Long registrationCount = row.get("registration_count", Long.class);
+        return EventResponseDto.fromEvent(event, registrationCount != null ? registrationCount : 0L);
+    }
+}
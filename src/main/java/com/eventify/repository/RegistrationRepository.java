@@ -1,9 +1,13 @@
 package com.eventify.repository;
 
+import com.eventify.dto.EventRegistrationCount;
 import com.eventify.model.Registration;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,11 +18,19 @@ public interface RegistrationRepository extends JpaRepository<Registration, Long
 
     List<Registration> findByEventId(Long eventId);
 
+    @Query("SELECT r.eventId FROM Registration r WHERE r.userId = :userId")
+    List<Long> findEventIdsByUserId(@Param("userId") Long userId);
+
     Optional<Registration> findByUserIdAndEventId(Long userId, Long eventId);
 
     boolean existsByUserIdAndEventId(Long userId, Long eventId);
 
     long countByEventId(Long eventId);
 
+    // Events without registrations are left out
+    @Query("SELECT new com.eventify.dto.EventRegistrationCount(r.eventId, COUNT(r.id)) "
+            + "FROM Registration r WHERE r.eventId IN :eventIds GROUP BY r.eventId")
+    List<EventRegistrationCount> countByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
     void deleteByEventId(Long eventId);
 }
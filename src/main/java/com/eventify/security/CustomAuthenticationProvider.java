@@ -1,5 +1,8 @@
 package com.eventify.security;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -13,23 +16,40 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Component
 public class CustomAuthenticationProvider implements AuthenticationProvider {
     private static final Logger log = LoggerFactory.getLogger(CustomAuthenticationProvider.class);
     
     private final CustomUserDetailsService userDetailsService;
     private final PasswordEncoder passwordEncoder;
+    private final Timer passwordCheck;
+    private final Map<String, Counter> attempts = new HashMap<>();
 
     public CustomAuthenticationProvider(CustomUserDetailsService userDetailsService,
-                                        PasswordEncoder passwordEncoder) {
+                                        PasswordEncoder passwordEncoder,
+                                        MeterRegistry meterRegistry) {
         this.userDetailsService = userDetailsService;
         this.passwordEncoder = passwordEncoder;
+        this.passwordCheck = Timer.builder("eventify.auth.password-check")
+                .description("Time spent in PasswordEncoder.matches (BCrypt)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        for (String outcome : new String[]{"success", "bad-credentials", "unknown-user", "error"}) {
+            attempts.put(outcome, Counter.builder("eventify.auth.attempts")
+                    .description("Authentication attempts by outcome")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
     }
 
     @Override
     public Authentication authenticate(Authentication authentication) throws AuthenticationException {
         String email = authentication.getName();
         String password = authentication.getCredentials().toString();
+        String outcome = "error";
         
         try {
             log.info("Attempting to authenticate user: {}", email);
@@ -37,12 +57,14 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
             UserDetails userDetails = userDetailsService.loadUserByUsername(email);
             log.debug("User found: {}", userDetails.getUsername());
             
-            if (!passwordEncoder.matches(password, userDetails.getPassword())) {
+            if (!passwordCheck.record(() -> passwordEncoder.matches(password, userDetails.getPassword()))) {
                 log.warn("Invalid password for user: {}", email);
+                outcome = "bad-credentials";
                 throw new BadCredentialsException("Invalid credentials");
             }
             
             log.info("Authentication successful for user: {}", email);
+            outcome = "success";
             return new UsernamePasswordAuthenticationToken(
                 userDetails,
                 null,
@@ -51,10 +73,13 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
             
         } catch (UsernameNotFoundException e) {
             log.warn("User not found: {}", email);
+            outcome = "unknown-user";
             throw new BadCredentialsException("Invalid credentials");
         } catch (Exception e) {
             log.error("Authentication error for user {}: {}", email, e.getMessage(), e);
             throw new AuthenticationServiceException("Authentication failed", e);
+        } finally {
+            attempts.get(outcome).increment();
         }
     }
 
@@ -0,0 +1,204 @@
+package com.eventify.service;
+
+import com.eventify.domain.DomainEvent;
+import com.eventify.domain.DomainEventConsumer;
+import com.eventify.dto.EventAvailability;
+import com.eventify.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fans live seat availability out to stream subscribers.
+ * Registration and event changes arrive as domain events and only mark an event dirty; a scheduled tick re-reads all dirty events
+ * with one grouped query and emits to each event's sink, so any number of changes within an
+ * interval collapse into at most one update per event. Each sink replays its latest value,
+ * which gives new subscribers an immediate snapshot and lets slow subscribers skip straight
+ * to the newest value instead of buffering every intermediate one.
+ * <p>
+ * Ticks read in read-only transactions. With replica routing enabled those may be served by a
+ * lagging replica, so every published event is read once more after the replica lag tolerance.
+ * A newly opened stream is re-read on the next tick as well.
+ */
+@Service
+public class AvailabilityBroadcaster implements DomainEventConsumer {
+
+    private static final int QUERY_CHUNK_SIZE = 500;
+    private static final Sinks.EmitFailureHandler RETRY_CONCURRENT_EMIT =
+            Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100));
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration idleTimeout;
+    private final Duration recheckAfter;
+    private final Map<Long, EventStream> streams = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Long> recheckAt = new ConcurrentHashMap<>();
+
+    public AvailabilityBroadcaster(EventRepository eventRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${eventify.availability.stream.idle-timeout:1m}") Duration idleTimeout,
+                                   @Value("${eventify.datasource.replica.enabled:false}") boolean replicaEnabled,
+                                   @Value("${eventify.datasource.replica.lag-tolerance:5s}") Duration replicaLagTolerance) {
+        this.eventRepository = eventRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.idleTimeout = idleTimeout;
+        this.recheckAfter = replicaEnabled ? replicaLagTolerance : null;
+    }
+
+    @Override
+    public String consumerName() {
+        return "availability-broadcaster";
+    }
+
+    @Override
+    public void onDomainEvents(List<DomainEvent> events) {
+        events.forEach(event -> markChanged(event.eventId()));
+    }
+
+    /**
+     * Marks an event's availability as changed; it is re-read and published on the next tick.
+     */
+    public void markChanged(Long eventId) {
+        dirty.add(eventId);
+    }
+
+    /**
+     * Availability updates for the given events, starting with their current values.
+     * Unknown event ids are ignored.
+     */
+    @Transactional(readOnly = true)
+    public Flux<EventAvailability> subscribe(Collection<Long> eventIds) {
+        List<Long> missing = eventIds.stream()
+                .filter(id -> !streams.containsKey(id))
+                .toList();
+        for (EventAvailability availability : load(missing)) {
+            streams.computeIfAbsent(availability.getEventId(), id -> new EventStream(availability));
+            // A tick between the load and the stream's creation drops changes for it, and the
+            // snapshot itself may come from a lagging replica, so the next tick reads it again
+            dirty.add(availability.getEventId());
+        }
+        return Flux.merge(eventIds.stream()
+                .map(streams::get)
+                .filter(Objects::nonNull)
+                .map(EventStream::flux)
+                .toList());
+    }
+
+    // Not @Transactional: most ticks find nothing changed and should not take a connection
+    @Scheduled(fixedDelayString = "${eventify.availability.stream.interval:1s}")
+    public void publishChanges() {
+        long now = System.nanoTime();
+        List<Long> changed = new ArrayList<>();
+        for (Iterator<Long> iterator = dirty.iterator(); iterator.hasNext(); ) {
+            Long eventId = iterator.next();
+            iterator.remove();
+            if (streams.containsKey(eventId)) {
+                changed.add(eventId);
+                if (recheckAfter != null) {
+                    recheckAt.put(eventId, now + recheckAfter.toNanos());
+                }
+            }
+        }
+        // Rechecks are not rescheduled, so a replica read corrects at most once per change
+        recheckAt.entrySet().removeIf(entry -> {
+            if (entry.getValue() - now > 0 || changed.contains(entry.getKey())) {
+                return false;
+            }
+            if (streams.containsKey(entry.getKey())) {
+                changed.add(entry.getKey());
+            }
+            return true;
+        });
+
+        if (!changed.isEmpty()) {
+            publish(changed);
+        }
+
+        long idleBefore = now - idleTimeout.toNanos();
+        streams.entrySet().removeIf(entry -> entry.getValue().isIdleSince(idleBefore));
+    }
+
+    private void publish(List<Long> changed) {
+        Map<Long, EventAvailability> current = readOnlyTransaction.execute(status -> load(changed)).stream()
+                .collect(Collectors.toMap(EventAvailability::getEventId, Function.identity()));
+        for (Long eventId : changed) {
+            EventStream stream = streams.get(eventId);
+            if (stream == null) {
+                continue;
+            }
+            EventAvailability availability = current.get(eventId);
+            if (availability == null) {
+                // Event was deleted
+                streams.remove(eventId, stream);
+                stream.complete();
+            } else {
+                stream.publish(availability);
+            }
+        }
+    }
+
+    int activeStreams() {
+        return streams.size();
+    }
+
+    private List<EventAvailability> load(List<Long> eventIds) {
+        List<EventAvailability> result = new ArrayList<>(eventIds.size());
+        for (int from = 0; from < eventIds.size(); from += QUERY_CHUNK_SIZE) {
+            result.addAll(eventRepository.findAvailabilityByIdIn(
+                    eventIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE, eventIds.size()))));
+        }
+        return result;
+    }
+
+    private static final class EventStream {
+
+        private final Sinks.Many<EventAvailability> sink = Sinks.many().replay().latest();
+        private volatile EventAvailability latest;
+        private volatile long lastSubscribedAt = System.nanoTime();
+
+        EventStream(EventAvailability initial) {
+            publish(initial);
+        }
+
+        Flux<EventAvailability> flux() {
+            lastSubscribedAt = System.nanoTime();
+            return sink.asFlux();
+        }
+
+        void publish(EventAvailability availability) {
+            // A registration and a cancellation within one interval cancel out
+            if (!availability.equals(latest)) {
+                latest = availability;
+                sink.emitNext(availability, RETRY_CONCURRENT_EMIT);
+            }
+        }
+
+        void complete() {
+            sink.emitComplete(RETRY_CONCURRENT_EMIT);
+        }
+
+        // The grace period covers callers that fetched the flux but have not subscribed yet
+        boolean isIdleSince(long idleBefore) {
+            return sink.currentSubscriberCount() == 0 && lastSubscribedAt - idleBefore < 0;
+        }
+    }
+}
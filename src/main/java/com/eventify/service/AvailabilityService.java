@@ -0,0 +1,56 @@
+package com.eventify.service;
+
+import com.eventify.cache.AvailabilityCounterCache;
+import com.eventify.dto.EventAvailability;
+import com.eventify.repository.EventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+@Transactional(readOnly = true)
+public class AvailabilityService {
+
+    private final EventRepository eventRepository;
+    private final AvailabilityCounterCache availabilityCounterCache;
+
+    public AvailabilityService(EventRepository eventRepository,
+                               AvailabilityCounterCache availabilityCounterCache) {
+        this.eventRepository = eventRepository;
+        this.availabilityCounterCache = availabilityCounterCache;
+    }
+
+    /**
+     * Capacity and registration count for each known event id, in request order.
+     * Served from the in-memory counters where present, the rest with one grouped query.
+     */
+    public List<EventAvailability> getAvailability(Collection<Long> eventIds) {
+        Set<Long> ids = new LinkedHashSet<>(eventIds);
+        Map<Long, EventAvailability> found = new HashMap<>();
+        if (availabilityCounterCache.isEnabled()) {
+            found.putAll(availabilityCounterCache.getAllPresent(ids));
+        }
+
+        List<Long> missing = ids.stream()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+        if (!missing.isEmpty()) {
+            for (EventAvailability availability : eventRepository.findAvailabilityByIdIn(missing)) {
+                found.put(availability.getEventId(), availability);
+                availabilityCounterCache.put(availability);
+            }
+        }
+
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
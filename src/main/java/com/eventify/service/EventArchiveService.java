@@ -0,0 +1,165 @@
+package com.eventify.service;
+
+import com.eventify.domain.DomainEventBus;
+import com.eventify.domain.EventDeleted;
+import com.eventify.dto.EventRegistrationCount;
+import com.eventify.model.ArchivedEvent;
+import com.eventify.model.ArchivedRegistration;
+import com.eventify.model.Event;
+import com.eventify.model.Registration;
+import com.eventify.repository.ArchivedEventRepository;
+import com.eventify.repository.ArchivedRegistrationRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Moves events that ended more than {@code eventify.archive.horizon} ago, with their registrations,
+ * into {@code events_archive} and {@code registrations_archive}, so the hot tables and their indexes
+ * only hold recent and upcoming data. Runs every {@code eventify.archive.interval} when
+ * {@code eventify.archive.enabled=true}, one transaction per {@code chunk-size} events. Also serves
+ * the archive to the read APIs that ask for past data explicitly.
+ */
+@Service
+public class EventArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventArchiveService.class);
+
+    private static final String SELECT_PAST_EVENT_IDS = "SELECT id FROM events WHERE date_time < ? ORDER BY date_time LIMIT ?";
+    private static final String ARCHIVE_REGISTRATIONS = """
+            INSERT INTO registrations_archive (id, user_id, event_id, registered_at, status, archived_at)
+            SELECT id, user_id, event_id, registered_at, status, ? FROM registrations WHERE event_id IN (%s)
+            """;
+    private static final String ARCHIVE_EVENTS = """
+            INSERT INTO events_archive (id, title, description, location, date_time, capacity, organizer_id, version, archived_at)
+            SELECT id, title, description, location, date_time, capacity, organizer_id, version, ? FROM events WHERE id IN (%s)
+            """;
+    // Only rows that were copied, so a registration committed in between is never lost
+    private static final String DELETE_REGISTRATIONS =
+            "DELETE FROM registrations WHERE id IN (SELECT id FROM registrations_archive WHERE event_id IN (%s))";
+    private static final String DELETE_EVENTS = "DELETE FROM events WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final DomainEventBus domainEventBus;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final ArchivedRegistrationRepository archivedRegistrationRepository;
+    private final boolean enabled;
+    private final Duration horizon;
+    private final int chunkSize;
+
+    public EventArchiveService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               EntityManagerFactory entityManagerFactory,
+                               DomainEventBus domainEventBus,
+                               ArchivedEventRepository archivedEventRepository,
+                               ArchivedRegistrationRepository archivedRegistrationRepository,
+                               @Value("${eventify.archive.enabled:false}") boolean enabled,
+                               @Value("${eventify.archive.horizon:365d}") Duration horizon,
+                               @Value("${eventify.archive.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.domainEventBus = domainEventBus;
+        this.archivedEventRepository = archivedEventRepository;
+        this.archivedRegistrationRepository = archivedRegistrationRepository;
+        this.enabled = enabled;
+        this.horizon = horizon;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(initialDelayString = "${eventify.archive.interval:1h}", fixedDelayString = "${eventify.archive.interval:1h}")
+    public void archivePastEvents() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(horizon);
+        int archived = 0;
+        int moved;
+        do {
+            List<Long> eventIds = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            moved = eventIds.size();
+            archived += moved;
+            // Rows deleted over JDBC bypass Hibernate, so their cached entities and listings are dropped here
+            Cache cache = entityManagerFactory.getCache();
+            eventIds.forEach(id -> cache.evict(Event.class, id));
+            cache.unwrap(org.hibernate.Cache.class).evictDefaultQueryRegion();
+        } while (moved == chunkSize);
+        if (archived > 0) {
+            log.info("Archived {} events that took place before {}", archived, cutoff);
+        }
+    }
+
+    private List<Long> archiveChunk(LocalDateTime cutoff) {
+        List<Long> eventIds = jdbcTemplate.queryForList(SELECT_PAST_EVENT_IDS, Long.class, Timestamp.valueOf(cutoff), chunkSize);
+        if (eventIds.isEmpty()) {
+            return eventIds;
+        }
+        String placeholders = String.join(",", Collections.nCopies(eventIds.size(), "?"));
+        List<Object> archivedAtAndIds = new ArrayList<>(eventIds.size() + 1);
+        archivedAtAndIds.add(Timestamp.valueOf(LocalDateTime.now()));
+        archivedAtAndIds.addAll(eventIds);
+        Object[] ids = eventIds.toArray();
+
+        jdbcTemplate.update(ARCHIVE_REGISTRATIONS.formatted(placeholders), archivedAtAndIds.toArray());
+        jdbcTemplate.update(ARCHIVE_EVENTS.formatted(placeholders), archivedAtAndIds.toArray());
+        jdbcTemplate.update(DELETE_REGISTRATIONS.formatted(placeholders), ids);
+        jdbcTemplate.update(DELETE_EVENTS.formatted(placeholders), ids);
+        // Counters, the JSON cache and live streams treat the event as gone
+        eventIds.forEach(id -> domainEventBus.publish(new EventDeleted(id)));
+        return eventIds;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Event> getArchivedEventsByOrganizerId(Long organizerId) {
+        return archivedEventRepository.findByOrganizerId(organizerId).stream()
+                .map(ArchivedEvent::toEvent)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, Event> getArchivedEvents(Collection<Long> ids) {
+        return archivedEventRepository.findAllById(ids).stream()
+                .map(ArchivedEvent::toEvent)
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Registration> getArchivedUserRegistrations(Long userId) {
+        return archivedRegistrationRepository.findByUserId(userId).stream()
+                .map(ArchivedRegistration::toRegistration)
+                .toList();
+    }
+
+    /**
+     * Archived registrations per event in one grouped query; events without any are left out.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getArchivedRegistrationCounts(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+        return archivedRegistrationRepository.countByEventIdIn(eventIds).stream()
+                .collect(Collectors.toMap(EventRegistrationCount::getEventId, EventRegistrationCount::getRegistrationCount));
+    }
+}
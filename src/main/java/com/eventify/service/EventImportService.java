@@ -0,0 +1,334 @@
+package com.eventify.service;
+
+import com.eventify.datasource.ReadYourWritesTracker;
+import com.eventify.dto.EventDto;
+import com.eventify.dto.EventImportResult;
+import com.eventify.model.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bulk event import for organizers. Records are read one line at a time, validated against the
+ * {@link EventDto} constraints and inserted with JDBC batches, one transaction per chunk. A result
+ * line is written for every record once its chunk has committed, so memory use depends on the
+ * chunk size and line length limit, not on the size of the upload.
+ */
+@Service
+public class EventImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventImportService.class);
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO events (title, description, location, date_time, capacity, organizer_id)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+    private static final List<String> CSV_COLUMNS = List.of("title", "description", "location", "datetime", "capacity");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader eventReader;
+    private final int chunkSize;
+    private final int maxLineLength;
+
+    public EventImportService(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              EntityManagerFactory entityManagerFactory,
+                              ReadYourWritesTracker readYourWritesTracker,
+                              Validator validator,
+                              ObjectMapper objectMapper,
+                              @Value("${eventify.event-import.chunk-size:500}") int chunkSize,
+                              @Value("${eventify.event-import.max-line-length:65536}") int maxLineLength) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventReader = objectMapper.readerFor(EventDto.class);
+        this.chunkSize = chunkSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Imports every record of {@code input} as an event of the organizer and writes one
+     * {@link EventImportResult} per record to {@code output} as NDJSON. Blank lines are skipped.
+     * CSV input starts with a header naming the columns; quoted fields may not span lines.
+     */
+    public void importEvents(User organizer, RecordFormat format, InputStream input, OutputStream output) throws IOException {
+        LineReader lines = new LineReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), maxLineLength);
+        List<ParsedLine> chunk = new ArrayList<>(chunkSize);
+        Map<String, Integer> csvColumns = null;
+
+        while (lines.next()) {
+            if (lines.tooLong) {
+                chunk.add(ParsedLine.invalid(lines.number, List.of("Line exceeds " + maxLineLength + " characters")));
+            } else if (lines.text.isBlank()) {
+                continue;
+            } else if (format == RecordFormat.CSV && csvColumns == null) {
+                csvColumns = new HashMap<>();
+                List<String> header = parseCsv(lines.text);
+                List<String> unknown = new ArrayList<>();
+                for (int i = 0; i < header.size(); i++) {
+                    String column = header.get(i).trim().toLowerCase(Locale.ROOT);
+                    if (CSV_COLUMNS.contains(column)) {
+                        csvColumns.put(column, i);
+                    } else {
+                        unknown.add(header.get(i));
+                    }
+                }
+                if (!unknown.isEmpty()) {
+                    write(output, EventImportResult.invalid(lines.number, List.of("Unknown columns " + unknown
+                            + ", expected " + String.join(",", CSV_COLUMNS))));
+                    output.flush();
+                    return;
+                }
+            } else {
+                chunk.add(format == RecordFormat.CSV
+                        ? parseCsvRecord(lines.number, lines.text, csvColumns)
+                        : parseJsonRecord(lines.number, lines.text));
+            }
+
+            if (chunk.size() >= chunkSize) {
+                insertChunk(organizer, chunk, output);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(organizer, chunk, output);
+        }
+    }
+
+    private void insertChunk(User organizer, List<ParsedLine> chunk, OutputStream output) throws IOException {
+        List<ParsedLine> valid = chunk.stream().filter(line -> line.event != null).toList();
+        List<Long> ids = null;
+        boolean failed = false;
+        if (!valid.isEmpty()) {
+            try {
+                ids = insert(organizer.getId(), valid);
+                // Rows written over JDBC bypass Hibernate, so cached listing queries have to be dropped explicitly
+                entityManagerFactory.getCache().unwrap(Cache.class).evictDefaultQueryRegion();
+                readYourWritesTracker.recordWrite(organizer.getEmail());
+            } catch (DataAccessException e) {
+                log.warn("Bulk import of {} events for organizer {} failed", valid.size(), organizer.getId(), e);
+                failed = true;
+            }
+        }
+
+        int inserted = 0;
+        for (ParsedLine line : chunk) {
+            if (line.event == null) {
+                write(output, EventImportResult.invalid(line.number, line.errors));
+            } else if (failed) {
+                write(output, EventImportResult.failed(line.number, "Could not be stored, the whole chunk was rolled back"));
+            } else {
+                write(output, EventImportResult.created(line.number, ids.get(inserted++)));
+            }
+        }
+        output.flush();
+    }
+
+    private List<Long> insert(Long organizerId, List<ParsedLine> lines) {
+        return transactionTemplate.execute(status -> {
+            KeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_EVENT, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement statement, int i) throws SQLException {
+                            EventDto event = lines.get(i).event;
+                            statement.setString(1, event.getTitle());
+                            statement.setString(2, event.getDescription());
+                            statement.setString(3, event.getLocation());
+                            statement.setTimestamp(4, Timestamp.valueOf(event.getDateTime()));
+                            statement.setInt(5, event.getCapacity());
+                            statement.setLong(6, organizerId);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return lines.size();
+                        }
+                    },
+                    keys);
+            return keys.getKeyList().stream()
+                    .map(row -> ((Number) row.get("id")).longValue())
+                    .toList();
+        });
+    }
+
+    private ParsedLine parseJsonRecord(long number, String text) {
+        try {
+            return validate(number, eventReader.readValue(text));
+        } catch (JsonProcessingException e) {
+            return ParsedLine.invalid(number, List.of("Malformed JSON: " + e.getOriginalMessage()));
+        }
+    }
+
+    private ParsedLine parseCsvRecord(long number, String text, Map<String, Integer> columns) {
+        List<String> fields = parseCsv(text);
+        List<String> errors = new ArrayList<>();
+        EventDto event = new EventDto();
+        event.setTitle(field(fields, columns, "title"));
+        event.setDescription(field(fields, columns, "description"));
+        event.setLocation(field(fields, columns, "location"));
+        String dateTime = field(fields, columns, "datetime");
+        if (dateTime != null) {
+            try {
+                event.setDateTime(LocalDateTime.parse(dateTime));
+            } catch (DateTimeParseException e) {
+                errors.add("Date and time must be an ISO-8601 local date-time");
+            }
+        }
+        String capacity = field(fields, columns, "capacity");
+        if (capacity != null) {
+            try {
+                event.setCapacity(Integer.valueOf(capacity));
+            } catch (NumberFormatException e) {
+                errors.add("Capacity must be a whole number");
+            }
+        }
+        return errors.isEmpty() ? validate(number, event) : ParsedLine.invalid(number, errors);
+    }
+
+    private ParsedLine validate(long number, EventDto event) {
+        if (event == null) {
+            return ParsedLine.invalid(number, List.of("Record is empty"));
+        }
+        List<String> errors = validator.validate(event).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .toList();
+        return errors.isEmpty() ? new ParsedLine(number, event, null) : ParsedLine.invalid(number, errors);
+    }
+
+    private void write(OutputStream output, EventImportResult result) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(result));
+        output.write('\n');
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // RFC 4180 fields within a single line: commas separate, quotes enclose, "" escapes a quote
+    static List<String> parseCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private record ParsedLine(long number, EventDto event, List<String> errors) {
+
+        static ParsedLine invalid(long number, List<String> errors) {
+            return new ParsedLine(number, null, errors);
+        }
+    }
+
+    /**
+     * Reads lines of at most {@code maxLength} characters; the rest of a longer line is skipped
+     * without being buffered and the line is reported as too long.
+     */
+    private static final class LineReader {
+
+        private final BufferedReader reader;
+        private final int maxLength;
+        private final StringBuilder buffer = new StringBuilder();
+        private long number;
+        private String text;
+        private boolean tooLong;
+
+        LineReader(BufferedReader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        boolean next() throws IOException {
+            buffer.setLength(0);
+            tooLong = false;
+            int c = reader.read();
+            if (c == -1) {
+                return false;
+            }
+            while (c != -1 && c != '\n') {
+                if (buffer.length() < maxLength) {
+                    buffer.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+                c = reader.read();
+            }
+            if (!buffer.isEmpty() && buffer.charAt(buffer.length() - 1) == '\r') {
+                buffer.setLength(buffer.length() - 1);
+            }
+            number++;
+            text = buffer.toString();
+            return true;
+        }
+    }
+}
@@ -1,61 +1,142 @@
 package com.eventify.service;
 
+import com.eventify.datasource.ReadYourWritesTracker;
+import com.eventify.domain.DomainEventBus;
+import com.eventify.domain.EventDeleted;
+import com.eventify.domain.EventUpdated;
 import com.eventify.model.Event;
 import com.eventify.repository.EventRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class EventService {
 
     private final EventRepository eventRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final DomainEventBus domainEventBus;
+    private final ListingMeters allListing;
+    private final ListingMeters upcomingListing;
+    private final ListingMeters organizerListing;
 
     @Autowired
-    public EventService(EventRepository eventRepository) {
+    public EventService(EventRepository eventRepository,
+                        ReadYourWritesTracker readYourWritesTracker,
+                        DomainEventBus domainEventBus,
+                        MeterRegistry meterRegistry) {
         this.eventRepository = eventRepository;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.domainEventBus = domainEventBus;
+        this.allListing = new ListingMeters("all", meterRegistry);
+        this.upcomingListing = new ListingMeters("upcoming", meterRegistry);
+        this.organizerListing = new ListingMeters("organizer", meterRegistry);
     }
 
     public Event createEvent(Event event) {
+        readYourWritesTracker.recordWrite();
         return eventRepository.save(event);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Event> getEventById(Long id) {
         return eventRepository.findById(id);
     }
 
+    // One query for all ids, instead of a lookup per id for ids the second-level cache misses
+    @Transactional(readOnly = true)
+    public Map<Long, Event> getEventsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return eventRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+    }
+
+    @Transactional(readOnly = true)
     public List<Event> getAllEvents() {
-        return eventRepository.findAll();
+        return allListing.record(eventRepository::findAll);
     }
 
+    @Transactional(readOnly = true)
     public List<Event> getUpcomingEvents() {
-        return eventRepository.findByDateTimeAfterOrderByDateTimeAsc(LocalDateTime.now());
+        // Rounded to a minute so the cached query result is shared for a minute instead of missing on every
+        // call; rounded up, so an event that has already started is never listed
+        LocalDateTime cutoff = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        return upcomingListing.record(() -> eventRepository.findByDateTimeAfterOrderByDateTimeAsc(cutoff));
     }
 
+    @Transactional(readOnly = true)
     public List<Event> getEventsByOrganizerId(Long organizerId) {
-        return eventRepository.findByOrganizerId(organizerId);
+        return organizerListing.record(() -> eventRepository.findByOrganizerId(organizerId));
     }
 
+    /**
+     * Flushes right away so a stale version fails here, whatever transaction the caller is in,
+     * and the returned event carries its new version.
+     */
     public Event updateEvent(Event event) {
-        return eventRepository.save(event);
+        readYourWritesTracker.recordWrite();
+        Event saved = eventRepository.saveAndFlush(event);
+        domainEventBus.publish(new EventUpdated(saved.getId()));
+        return saved;
     }
 
     public void deleteEvent(Long id) {
+        readYourWritesTracker.recordWrite();
         eventRepository.deleteById(id);
+        domainEventBus.publish(new EventDeleted(id));
     }
 
+    @Transactional(readOnly = true)
     public boolean existsById(Long id) {
         return eventRepository.existsById(id);
     }
 
+    @Transactional(readOnly = true)
     public boolean isEventOwner(Long eventId, Long organizerId) {
         return eventRepository.findById(eventId)
                 .map(event -> event.getOrganizerId().equals(organizerId))
                 .orElse(false);
     }
+
+    /**
+     * Latency and result size of one listing query, tagged with the listing rather than any
+     * caller-supplied id so the number of series stays fixed.
+     */
+    private record ListingMeters(Timer latency, DistributionSummary size) {
+
+        ListingMeters(String listing, MeterRegistry meterRegistry) {
+            this(Timer.builder("eventify.events.listing")
+                            .description("Time to load an event listing")
+                            .tag("listing", listing)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry),
+                    DistributionSummary.builder("eventify.events.listing.size")
+                            .description("Events returned by a listing")
+                            .tag("listing", listing)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry));
+        }
+
+        List<Event> record(Supplier<List<Event>> query) {
+            List<Event> events = latency.record(query);
+            size.record(events.size());
+            return events;
+        }
+    }
 }
@@ -0,0 +1,20 @@
+package com.eventify.service;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Line-oriented formats used for bulk import and export.
+ */
+public enum RecordFormat {
+    NDJSON,
+    CSV;
+
+    public static Optional<RecordFormat> fromName(String name) {
+        try {
+            return Optional.of(valueOf(name.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
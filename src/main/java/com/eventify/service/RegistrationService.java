@@ -1,16 +1,36 @@
 package com.eventify.service;
 
+import com.eventify.datasource.ReadYourWritesTracker;
+import com.eventify.domain.DomainEventBus;
+import com.eventify.domain.RegistrationCancelled;
+import com.eventify.domain.RegistrationCreated;
+import com.eventify.dto.EventRegistrationCount;
+import com.eventify.journal.JournalEntry;
+import com.eventify.journal.RegistrationJournal;
 import com.eventify.model.Event;
 import com.eventify.model.Registration;
 import com.eventify.repository.EventRepository;
 import com.eventify.repository.RegistrationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -18,51 +38,180 @@ public class RegistrationService {
 
     private final RegistrationRepository registrationRepository;
     private final EventRepository eventRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final DomainEventBus domainEventBus;
+    private final RegistrationJournal registrationJournal;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer registeredToDatabase;
+    private final Timer registeredToJournal;
+    private final Timer cancelled;
+    private final Timer cancelNotFound;
+    private final Counter capacityRejections;
+    private final Counter duplicateRejections;
 
     @Autowired
-    public RegistrationService(RegistrationRepository registrationRepository, EventRepository eventRepository) {
+    public RegistrationService(RegistrationRepository registrationRepository,
+                               EventRepository eventRepository,
+                               ReadYourWritesTracker readYourWritesTracker,
+                               DomainEventBus domainEventBus,
+                               RegistrationJournal registrationJournal,
+                               MeterRegistry meterRegistry,
+                               PlatformTransactionManager transactionManager) {
         this.registrationRepository = registrationRepository;
         this.eventRepository = eventRepository;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.domainEventBus = domainEventBus;
+        this.registrationJournal = registrationJournal;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.registeredToDatabase = registrationTimer("eventify.registration.register", "database", meterRegistry);
+        this.registeredToJournal = registrationTimer("eventify.registration.register", "journal", meterRegistry);
+        this.cancelled = registrationTimer("eventify.registration.cancel", "cancelled", meterRegistry);
+        this.cancelNotFound = registrationTimer("eventify.registration.cancel", "not-found", meterRegistry);
+        this.capacityRejections = rejections("capacity", meterRegistry);
+        this.duplicateRejections = rejections("duplicate", meterRegistry);
+    }
+
+    private static Timer registrationTimer(String name, String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder(name)
+                .description("Time spent registering or cancelling, excluding the commit")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter rejections(String reason, MeterRegistry meterRegistry) {
+        return Counter.builder("eventify.registration.rejected")
+                .description("Registrations refused because the event was full or the user already registered")
+                .tag("reason", reason)
+                .register(meterRegistry);
     }
 
     public Registration registerUserForEvent(Long userId, Long eventId) {
-        Registration registration = new Registration();
-        registration.setUserId(userId);
-        registration.setEventId(eventId);
-        registration.setRegisteredAt(LocalDateTime.now());
-        registration.setStatus("CONFIRMED");
-        return registrationRepository.save(registration);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        readYourWritesTracker.recordWrite();
+        Registration registration = newRegistration(userId, eventId, LocalDateTime.now());
+        if (registrationJournal.isEnabled()
+                && registrationJournal.append(userId, eventId, registration.getRegisteredAt())) {
+            // Durable in the journal; the id stays null until the flusher has inserted it
+            sample.stop(registeredToJournal);
+            return registration;
+        }
+        Registration saved;
+        try {
+            saved = registrationRepository.save(registration);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request for the same user and event won at the unique index
+            duplicateRejections.increment();
+            throw e;
+        }
+        domainEventBus.publish(new RegistrationCreated(saved.getId(), userId, eventId));
+        sample.stop(registeredToDatabase);
+        return saved;
     }
 
+    /**
+     * The user's registrations, followed by those still pending in the journal, which have no id yet.
+     */
+    @Transactional(readOnly = true)
     public List<Registration> getUserRegistrations(Long userId) {
-        return registrationRepository.findByUserId(userId);
+        // Read before the database, so a batch flushed in between is found in one of them, not neither
+        List<JournalEntry> pendingEntries = registrationJournal.pendingEntries(userId);
+        List<Registration> registrations = registrationRepository.findByUserId(userId);
+        if (pendingEntries.isEmpty()) {
+            return registrations;
+        }
+        Set<Long> storedEventIds = registrations.stream().map(Registration::getEventId).collect(Collectors.toSet());
+        List<Registration> merged = new ArrayList<>(registrations);
+        for (JournalEntry entry : pendingEntries) {
+            if (!storedEventIds.contains(entry.eventId())) {
+                merged.add(newRegistration(userId, entry.eventId(), entry.registeredAt()));
+            }
+        }
+        return merged;
     }
 
+    @Transactional(readOnly = true)
     public List<Registration> getEventRegistrations(Long eventId) {
         return registrationRepository.findByEventId(eventId);
     }
 
+    /**
+     * Ids of all events the user is registered for, so listings can flag every event
+     * with one query instead of one existence check per event.
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> getRegisteredEventIds(Long userId) {
+        Set<Long> eventIds = new HashSet<>(registrationRepository.findEventIdsByUserId(userId));
+        eventIds.addAll(registrationJournal.pendingEventIds(userId));
+        return eventIds;
+    }
+
+    // Guards a write, so stays on the primary rather than a possibly lagging replica
     public boolean isUserRegisteredForEvent(Long userId, Long eventId) {
-        return registrationRepository.existsByUserIdAndEventId(userId, eventId);
+        boolean registered = registrationJournal.isPending(userId, eventId)
+                || registrationRepository.existsByUserIdAndEventId(userId, eventId);
+        if (registered) {
+            duplicateRejections.increment();
+        }
+        return registered;
     }
 
+    @Transactional(readOnly = true)
     public Optional<Registration> getRegistration(Long userId, Long eventId) {
         return registrationRepository.findByUserIdAndEventId(userId, eventId);
     }
 
     public void cancelRegistration(Long registrationId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        readYourWritesTracker.recordWrite();
+        Optional<Registration> registration = registrationRepository.findById(registrationId);
+        registration.ifPresent(found -> domainEventBus.publish(
+                new RegistrationCancelled(registrationId, found.getUserId(), found.getEventId())));
         registrationRepository.deleteById(registrationId);
+        sample.stop(registration.isPresent() ? cancelled : cancelNotFound);
     }
 
+    // Flushes a pending registration before its own transaction starts (see RegistrationJournal#flush)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void cancelRegistrationByUserAndEvent(Long userId, Long eventId) {
-        registrationRepository.findByUserIdAndEventId(userId, eventId)
-                .ifPresent(registration -> registrationRepository.delete(registration));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        readYourWritesTracker.recordWrite();
+        if (registrationJournal.isPending(userId, eventId)) {
+            registrationJournal.flush();
+        }
+        Optional<Registration> registration = transactionTemplate.execute(status -> {
+            Optional<Registration> found = registrationRepository.findByUserIdAndEventId(userId, eventId);
+            found.ifPresent(existing -> {
+                registrationRepository.delete(existing);
+                domainEventBus.publish(new RegistrationCancelled(existing.getId(), userId, eventId));
+            });
+            return found;
+        });
+        sample.stop(registration.isPresent() ? cancelled : cancelNotFound);
     }
 
+    @Transactional(readOnly = true)
     public long getRegistrationCount(Long eventId) {
-        return registrationRepository.countByEventId(eventId);
+        return countWithPending(eventId);
     }
 
+    /**
+     * Registrations per event, pending ones included, with one grouped query for all of them,
+     * so listings do not count each event separately. Events without any are left out.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getRegistrationCounts(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+        return registrationJournal.countsWithPending(eventIds, () -> registrationRepository.countByEventIdIn(eventIds)
+                .stream()
+                .collect(Collectors.toMap(EventRegistrationCount::getEventId, EventRegistrationCount::getRegistrationCount)));
+    }
+
+    // Guards a write, so stays on the primary rather than a possibly lagging replica
     public boolean isEventAtCapacity(Long eventId) {
         Optional<Event> eventOpt = eventRepository.findById(eventId);
         if (eventOpt.isEmpty()) {
@@ -72,11 +221,37 @@ public class RegistrationService {
         if (event.getCapacity() == null) {
             return false;
         }
-        long currentRegistrations = registrationRepository.countByEventId(eventId);
-        return currentRegistrations >= event.getCapacity();
+        long currentRegistrations = countWithPending(eventId);
+        if (currentRegistrations >= event.getCapacity()) {
+            capacityRejections.increment();
+            return true;
+        }
+        return false;
     }
 
+    // Only used right before the event itself is deleted; its EventDeleted covers these registrations.
+    // Flushes pending registrations before its own transaction starts (see RegistrationJournal#flush)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void deleteRegistrationsByEventId(Long eventId) {
-        registrationRepository.deleteByEventId(eventId);
+        if (registrationJournal.pendingCount(eventId) > 0) {
+            registrationJournal.flush();
+        }
+        transactionTemplate.executeWithoutResult(status -> registrationRepository.deleteByEventId(eventId));
+    }
+
+    private long countWithPending(Long eventId) {
+        if (!registrationJournal.isEnabled()) {
+            return registrationRepository.countByEventId(eventId);
+        }
+        return registrationJournal.countWithPending(eventId, () -> registrationRepository.countByEventId(eventId));
+    }
+
+    private static Registration newRegistration(Long userId, Long eventId, LocalDateTime registeredAt) {
+        Registration registration = new Registration();
+        registration.setUserId(userId);
+        registration.setEventId(eventId);
+        registration.setRegisteredAt(registeredAt);
+        registration.setStatus("CONFIRMED");
+        return registration;
     }
 }
@@ -0,0 +1,55 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Renames the unique constraint on {@code users.email} to {@code uk_users_email}, the name V1 gives it.
+ * Databases baselined at V1 were created by Hibernate, which named it {@code uk} plus a hash, and
+ * GlobalExceptionHandler recognises a duplicate email by the constraint's name. In Java because the
+ * old name differs per database and has to be looked up first.
+ */
+public class V6__name_users_email_constraint extends BaseJavaMigration {
+
+    private static final String CONSTRAINT = "uk_users_email";
+
+    // Unique constraints of users on exactly the email column
+    private static final String FIND_EMAIL_CONSTRAINT = """
+            SELECT tc.constraint_name
+            FROM information_schema.table_constraints tc
+            JOIN information_schema.key_column_usage kcu
+                ON kcu.constraint_schema = tc.constraint_schema AND kcu.constraint_name = tc.constraint_name
+            WHERE LOWER(tc.table_schema) = LOWER(?) AND LOWER(tc.table_name) = 'users'
+                AND tc.constraint_type = 'UNIQUE'
+            GROUP BY tc.constraint_name
+            HAVING COUNT(*) = 1 AND MAX(LOWER(kcu.column_name)) = 'email'
+            """;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        String current = findEmailConstraint(connection);
+        if (current == null || current.equalsIgnoreCase(CONSTRAINT)) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE users RENAME CONSTRAINT \"" + current.replace("\"", "\"\"")
+                    + "\" TO " + CONSTRAINT);
+        }
+    }
+
+    private static String findEmailConstraint(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(FIND_EMAIL_CONSTRAINT)) {
+            statement.setString(1, connection.getSchema());
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() ? result.getString(1) : null;
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+-- A user can only hold one registration per event. Keep the oldest of any duplicates
+-- left behind by the non-atomic check-then-insert before enforcing it.
+DELETE FROM registrations r
+WHERE EXISTS (
+    SELECT 1 FROM registrations d
+    WHERE d.user_id = r.user_id
+      AND d.event_id = r.event_id
+      AND d.id < r.id
+);
+
+-- existsByUserIdAndEventId, findByUserIdAndEventId, findByUserId, findEventIdsByUserId
+CREATE UNIQUE INDEX uk_registrations_user_event ON registrations (user_id, event_id);
+
+-- countByEventId, findByEventId, deleteByEventId, availability counts
+CREATE INDEX idx_registrations_event ON registrations (event_id);
+
+-- findByDateTimeAfter, findByDateTimeAfterOrderByDateTimeAsc
+CREATE INDEX idx_events_date_time ON events (date_time);
+
+-- findByOrganizerId, findByOrganizerIdAndDateTimeAfter
+CREATE INDEX idx_events_organizer_date_time ON events (organizer_id, date_time);
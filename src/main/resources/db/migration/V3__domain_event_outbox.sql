@@ -0,0 +1,11 @@
+-- Transactional outbox for domain events (eventify.domain-events.outbox.enabled).
+-- Rows are deleted once every consumer has handled the event.
+
+CREATE TABLE domain_event_outbox (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type VARCHAR(64) NOT NULL,
+    payload VARCHAR(2000) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_domain_event_outbox_created_at ON domain_event_outbox (created_at);
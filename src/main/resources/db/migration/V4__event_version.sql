@@ -0,0 +1,4 @@
+-- Optimistic locking version for events; updates carry "WHERE version = ?" and bump it.
+-- Existing rows and rows inserted outside JPA (bulk import) start at 0.
+
+ALTER TABLE events ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,32 @@
+-- Cold storage for past events and their registrations (eventify.archive.*).
+-- Rows keep their original ids, so archived registrations still point at their event.
+
+CREATE TABLE events_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(255),
+    description VARCHAR(255),
+    location VARCHAR(255),
+    date_time TIMESTAMP(6),
+    capacity INTEGER,
+    organizer_id BIGINT,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE registrations_archive (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT,
+    event_id BIGINT,
+    registered_at TIMESTAMP(6),
+    status VARCHAR(255),
+    archived_at TIMESTAMP(6) NOT NULL
+);
+
+-- ArchivedEventRepository.findByOrganizerId
+CREATE INDEX idx_events_archive_organizer_date_time ON events_archive (organizer_id, date_time);
+
+-- ArchivedRegistrationRepository.findByUserId
+CREATE INDEX idx_registrations_archive_user ON registrations_archive (user_id);
+
+-- ArchivedRegistrationRepository.countByEventId, guarded delete during archival
+CREATE INDEX idx_registrations_archive_event ON registrations_archive (event_id);
@@ -0,0 +1,120 @@
+package com.eventify.cache;
+
+import com.eventify.config.JacksonConfig;
+import com.eventify.dto.EventResponseDto;
+import com.eventify.model.Event;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventJsonCacheTest {
+
+    private ObjectMapper objectMapper;
+    private EventJsonCache eventJsonCache;
+    private Event testEvent;
+    private Event otherEvent;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        eventJsonCache = new EventJsonCache(objectMapper, Set.of(EventJsonCache.PUBLIC_EVENTS), 100);
+
+        testEvent = new Event();
+        testEvent.setId(1L);
+        testEvent.setTitle("Test \"Event\"");
+        testEvent.setDescription(null);
+        testEvent.setLocation("Test Location");
+        testEvent.setDateTime(LocalDateTime.of(2030, 5, 1, 18, 30));
+        testEvent.setCapacity(100);
+        testEvent.setOrganizerId(1L);
+
+        otherEvent = new Event();
+        otherEvent.setId(2L);
+        otherEvent.setTitle("Other Event");
+        otherEvent.setDescription("Other Description");
+        otherEvent.setLocation("Other Location");
+        otherEvent.setDateTime(LocalDateTime.of(2030, 6, 1, 9, 0));
+        otherEvent.setCapacity(null);
+        otherEvent.setOrganizerId(2L);
+    }
+
+    @Test
+    void writeEvents_ShouldMatchObjectMapperOutput() throws Exception {
+        String expected = objectMapper.writeValueAsString(List.of(
+                EventResponseDto.fromEvent(testEvent, 40L),
+                EventResponseDto.fromEvent(otherEvent, 3L)));
+
+        byte[] result = eventJsonCache.writeEvents(List.of(testEvent, otherEvent), event -> event.getId() == 1L ? 40L : 3L);
+
+        assertEquals(expected, new String(result, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeEvents_WithRegisteredEventIds_ShouldMatchObjectMapperOutput() throws Exception {
+        EventResponseDto registered = EventResponseDto.fromEvent(testEvent, 40L);
+        registered.setRegistered(true);
+        EventResponseDto notRegistered = EventResponseDto.fromEvent(otherEvent, 3L);
+        notRegistered.setRegistered(false);
+        String expected = objectMapper.writeValueAsString(List.of(registered, notRegistered));
+
+        byte[] result = eventJsonCache.writeEvents(List.of(testEvent, otherEvent),
+                event -> event.getId() == 1L ? 40L : 3L, Set.of(1L));
+
+        assertEquals(expected, new String(result, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeEvents_ShouldWriteFreshAvailableSpots() throws Exception {
+        eventJsonCache.writeEvents(List.of(testEvent), event -> 10L);
+
+        byte[] result = eventJsonCache.writeEvents(List.of(testEvent), event -> 25L);
+
+        assertEquals(75L, objectMapper.readTree(result).get(0).get("availableSpots").asLong());
+    }
+
+    @Test
+    void writeEvents_WhenEventChanged_ShouldNotServeStaleFragment() throws Exception {
+        eventJsonCache.writeEvents(List.of(testEvent), event -> 0L);
+
+        testEvent.setTitle("Renamed Event");
+        byte[] result = eventJsonCache.writeEvents(List.of(testEvent), event -> 0L);
+
+        assertEquals("Renamed Event", objectMapper.readTree(result).get(0).get("title").asText());
+    }
+
+    @Test
+    void writeEvents_WithNoEvents_ShouldReturnEmptyArray() {
+        assertEquals("[]", new String(eventJsonCache.writeEvents(List.of(), event -> 0L), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void isEnabledFor_ShouldOnlyMatchConfiguredEndpoints() {
+        assertTrue(eventJsonCache.isEnabledFor(EventJsonCache.PUBLIC_EVENTS));
+        assertFalse(eventJsonCache.isEnabledFor(EventJsonCache.ORGANIZER_EVENTS));
+    }
+
+    @Test
+    void isEnabledFor_WithBinaryAccept_ShouldFallBack() {
+        assertTrue(eventJsonCache.isEnabledFor(EventJsonCache.PUBLIC_EVENTS, null));
+        assertTrue(eventJsonCache.isEnabledFor(EventJsonCache.PUBLIC_EVENTS, "*/*"));
+        assertTrue(eventJsonCache.isEnabledFor(EventJsonCache.PUBLIC_EVENTS, "application/json"));
+        assertFalse(eventJsonCache.isEnabledFor(EventJsonCache.PUBLIC_EVENTS, "application/x-jackson-smile"));
+        assertFalse(eventJsonCache.isEnabledFor(EventJsonCache.PUBLIC_EVENTS, "application/cbor"));
+    }
+
+    @Test
+    void isEnabledFor_ShouldHonourQualityValues() {
+        assertFalse(eventJsonCache.isEnabledFor(EventJsonCache.PUBLIC_EVENTS, "*/*;q=0.1, application/cbor"));
+        assertFalse(eventJsonCache.isEnabledFor(EventJsonCache.PUBLIC_EVENTS, "application/json;q=0.5, application/x-jackson-smile"));
+        assertFalse(eventJsonCache.isEnabledFor(EventJsonCache.PUBLIC_EVENTS, "application/json;q=0, */*"));
+        assertTrue(eventJsonCache.isEnabledFor(EventJsonCache.PUBLIC_EVENTS, "application/cbor;q=0.5, application/json"));
+        assertTrue(eventJsonCache.isEnabledFor(EventJsonCache.PUBLIC_EVENTS, "text/html, */*;q=0.8"));
+    }
+}
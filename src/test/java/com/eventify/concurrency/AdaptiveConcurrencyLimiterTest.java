@@ -0,0 +1,83 @@
+package com.eventify.concurrency;
+
+import com.eventify.concurrency.AdaptiveConcurrencyLimiter.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final AtomicInteger queuedForConnection = new AtomicInteger();
+
+    @Test
+    void tryAcquire_ShouldRejectBeyondLimitAndKeepLowPriorityBelowItsShare() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 6);
+
+        for (int i = 0; i < 8; i++) {
+            assertTrue(limiter.tryAcquire(Priority.LOW));
+        }
+        assertFalse(limiter.tryAcquire(Priority.LOW));
+        assertTrue(limiter.tryAcquire(Priority.HIGH));
+        assertTrue(limiter.tryAcquire(Priority.HIGH));
+        assertFalse(limiter.tryAcquire(Priority.HIGH));
+        assertEquals(10, limiter.getInFlight());
+
+        limiter.release(FAST);
+        assertEquals(9, limiter.getInFlight());
+        assertTrue(limiter.tryAcquire(Priority.HIGH));
+    }
+
+    @Test
+    void release_WhenHealthyAndBusy_ShouldGrowLimitByOne() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 6);
+
+        runWindow(limiter, 6, FAST);
+
+        assertEquals(11, limiter.getLimit());
+    }
+
+    @Test
+    void release_WhenLatencyExceedsBaseline_ShouldBackOff() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 6);
+        runWindow(limiter, 6, FAST);
+
+        runWindow(limiter, 6, SLOW);
+
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @Test
+    void release_WhenCallersQueueForConnections_ShouldBackOffToMinimum() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 2);
+        queuedForConnection.set(3);
+
+        for (int i = 0; i < 20; i++) {
+            runWindow(limiter, 2, FAST);
+        }
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    // Windows end on sample count alone, so each runWindow call below is exactly one window
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int windowSamples) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 4, 100, 0.9, 2.0, 0.8,
+                Duration.ZERO, windowSamples, queuedForConnection::get);
+    }
+
+    // Admits the given number of concurrent requests, then completes them
+    private static void runWindow(AdaptiveConcurrencyLimiter limiter, int concurrency, long latencyNanos) {
+        for (int i = 0; i < concurrency; i++) {
+            assertTrue(limiter.tryAcquire(Priority.HIGH));
+        }
+        for (int i = 0; i < concurrency; i++) {
+            limiter.release(latencyNanos);
+        }
+    }
+}
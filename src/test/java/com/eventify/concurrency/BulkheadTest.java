@@ -0,0 +1,63 @@
+package com.eventify.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    @Test
+    void tryEnter_WithoutQueue_ShouldRejectAtOnceWhenFull() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(TrafficArea.ADMIN, 1, 0, Duration.ofSeconds(5));
+
+        assertTrue(bulkhead.tryEnter());
+        long start = System.nanoTime();
+        assertFalse(bulkhead.tryEnter());
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1, bulkhead.getActive());
+        assertEquals(1, bulkhead.getRejected());
+    }
+
+    @Test
+    void tryEnter_WithQueue_ShouldGetInOnceASlotIsFreed() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(TrafficArea.ORGANIZER, 1, 1, Duration.ofSeconds(5));
+        assertTrue(bulkhead.tryEnter());
+
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bulkhead.tryEnter();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        await().atMost(Duration.ofSeconds(5)).until(() -> bulkhead.getWaiting() == 1);
+        // The queue is full, so a third caller is turned away without waiting
+        assertFalse(bulkhead.tryEnter());
+
+        bulkhead.exit();
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1, bulkhead.getRejected());
+    }
+
+    @Test
+    void tryEnter_WhenWaitExpires_ShouldReject() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(TrafficArea.USER, 1, 10, Duration.ofMillis(50));
+        assertTrue(bulkhead.tryEnter());
+
+        assertFalse(bulkhead.tryEnter());
+        assertEquals(1, bulkhead.getRejected());
+    }
+
+    @Test
+    void forPath_ShouldMapSecurityPathGroupsToAreas() {
+        assertEquals(TrafficArea.PUBLIC, TrafficArea.forPath("/api/public/events"));
+        assertEquals(TrafficArea.ADMIN, TrafficArea.forPath("/api/admin/users/1/role"));
+        assertNull(TrafficArea.forPath("/actuator/health"));
+    }
+}
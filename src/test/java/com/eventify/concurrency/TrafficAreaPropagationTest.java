@@ -0,0 +1,47 @@
+package com.eventify.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrafficAreaPropagationTest {
+
+    private final TrafficAreaPropagation propagation = new TrafficAreaPropagation();
+    private final ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+    private final Callable<Void> task = () -> null;
+
+    @AfterEach
+    void tearDown() {
+        TrafficArea.exit();
+    }
+
+    @Test
+    void asyncThread_ShouldRunInTheRequestsAreaUntilTheTaskIsDone() throws Exception {
+        TrafficArea.enter(TrafficArea.ORGANIZER);
+        propagation.beforeConcurrentHandling(request, task);
+        TrafficArea.exit();
+
+        CompletableFuture.runAsync(() -> {
+            propagation.preProcess(request, task);
+            assertEquals(TrafficArea.ORGANIZER, TrafficArea.current());
+            propagation.postProcess(request, task, null);
+            assertNull(TrafficArea.current());
+        }).get();
+    }
+
+    @Test
+    void asyncThread_OutsideAnArea_ShouldUseNoArea() throws Exception {
+        propagation.beforeConcurrentHandling(request, task);
+
+        CompletableFuture.runAsync(() -> {
+            propagation.preProcess(request, task);
+            assertNull(TrafficArea.current());
+        }).get();
+    }
+}
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -18,12 +19,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+// Test contexts export no metrics by default, which would leave /actuator/prometheus unmapped
 @SpringBootTest
 @AutoConfigureMockMvc
+@AutoConfigureObservability
 @ActiveProfiles("test")
 @Transactional
 class AdminControllerTest {
@@ -164,4 +168,20 @@ class AdminControllerTest {
                         .with(httpBasic("admin@example.com", "password123")))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void prometheusEndpoint_AsAdmin_ShouldExposeApplicationMetrics() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")
+                        .with(httpBasic("admin@example.com", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("eventify_registration_rejected_total{reason=\"capacity\"}")))
+                .andExpect(content().string(containsString("eventify_events_listing_seconds_bucket")));
+    }
+
+    @Test
+    void prometheusEndpoint_AsNonAdmin_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")
+                        .with(httpBasic("user@example.com", "password123")))
+                .andExpect(status().isForbidden());
+    }
 }
@@ -0,0 +1,178 @@
+package com.eventify.controller;
+
+import com.eventify.model.Event;
+import com.eventify.model.Registration;
+import com.eventify.model.User;
+import com.eventify.repository.EventRepository;
+import com.eventify.repository.RegistrationRepository;
+import com.eventify.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not @Transactional: the export streams on an async thread with its own connection
+ * and only sees committed rows.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AttendeeExportControllerTest {
+
+    private static final LocalDateTime REGISTERED_AT = LocalDateTime.of(2030, 1, 1, 9, 30);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    private User attendee;
+    private Event testEvent;
+    private Registration registration;
+
+    @BeforeEach
+    void setUp() {
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User organizer = new User();
+        organizer.setName("Organizer");
+        organizer.setEmail("organizer@example.com");
+        organizer.setPassword("password123");
+        organizer.setRole("ROLE_ORGANIZER");
+        organizer = userRepository.save(organizer);
+
+        User otherOrganizer = new User();
+        otherOrganizer.setName("Other Organizer");
+        otherOrganizer.setEmail("other@example.com");
+        otherOrganizer.setPassword("password123");
+        otherOrganizer.setRole("ROLE_ORGANIZER");
+        userRepository.save(otherOrganizer);
+
+        attendee = new User();
+        attendee.setName("Doe, Jane");
+        attendee.setEmail("jane@example.com");
+        attendee.setPassword("password123");
+        attendee.setRole("ROLE_USER");
+        attendee = userRepository.save(attendee);
+
+        testEvent = new Event();
+        testEvent.setTitle("Conference");
+        testEvent.setLocation("Main Hall");
+        testEvent.setDateTime(LocalDateTime.now().plusDays(7));
+        testEvent.setCapacity(100);
+        testEvent.setOrganizerId(organizer.getId());
+        testEvent = eventRepository.save(testEvent);
+
+        registration = new Registration();
+        registration.setUserId(attendee.getId());
+        registration.setEventId(testEvent.getId());
+        registration.setRegisteredAt(REGISTERED_AT);
+        registration.setStatus("CONFIRMED");
+        registration = registrationRepository.save(registration);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void exportAttendees_AsCsv_ShouldStreamQuotedRows() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/organizer/events/" + testEvent.getId() + "/attendees")
+                        .with(httpBasic("organizer@example.com", "password123")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"))
+                .andExpect(content().string("registrationId,userId,name,email,registeredAt,status\r\n"
+                        + registration.getId() + "," + attendee.getId()
+                        + ",\"Doe, Jane\",jane@example.com,2030-01-01T09:30:00,CONFIRMED\r\n"));
+    }
+
+    @Test
+    void exportAttendees_AsGzippedNdjson_ShouldStreamOneObjectPerLine() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/organizer/events/" + testEvent.getId() + "/attendees")
+                        .param("format", "ndjson")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                        .with(httpBasic("organizer@example.com", "password123")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] compressed = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertEquals("{\"registrationId\":" + registration.getId() + ",\"userId\":" + attendee.getId()
+                            + ",\"name\":\"Doe, Jane\",\"email\":\"jane@example.com\""
+                            + ",\"registeredAt\":\"2030-01-01T09:30:00\",\"status\":\"CONFIRMED\"}\n",
+                    new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void exportAttendees_ShouldUseExportTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/organizer/events/" + testEvent.getId() + "/attendees")
+                        .with(httpBasic("organizer@example.com", "password123")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+    }
+
+    @Test
+    void exportAttendees_AsNonOwner_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/api/organizer/events/" + testEvent.getId() + "/attendees")
+                        .with(httpBasic("other@example.com", "password123")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void exportAttendees_WhenNotFound_ShouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/api/organizer/events/99999/attendees")
+                        .with(httpBasic("organizer@example.com", "password123")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void exportAttendees_WithUnknownFormat_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/organizer/events/" + testEvent.getId() + "/attendees")
+                        .param("format", "xlsx")
+                        .with(httpBasic("organizer@example.com", "password123")))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,108 @@
+package com.eventify.controller;
+
+import com.eventify.model.Event;
+import com.eventify.model.Registration;
+import com.eventify.repository.EventRepository;
+import com.eventify.repository.RegistrationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class AvailabilityControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    private Event limitedEvent;
+    private Event openEvent;
+
+    @BeforeEach
+    void setUp() {
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+
+        limitedEvent = eventRepository.save(event("Limited Event", 10));
+        openEvent = eventRepository.save(event("Open Event", null));
+
+        for (long userId = 1; userId <= 3; userId++) {
+            Registration registration = new Registration();
+            registration.setUserId(userId);
+            registration.setEventId(limitedEvent.getId());
+            registration.setRegisteredAt(LocalDateTime.now());
+            registration.setStatus("CONFIRMED");
+            registrationRepository.save(registration);
+        }
+    }
+
+    @Test
+    void getAvailability_ShouldReturnCountsForRequestedEvents() throws Exception {
+        mockMvc.perform(get("/api/public/events/availability")
+                        .param("ids", openEvent.getId() + "," + limitedEvent.getId() + ",99999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].eventId").value(openEvent.getId()))
+                .andExpect(jsonPath("$[0].registrationCount").value(0))
+                .andExpect(jsonPath("$[1].eventId").value(limitedEvent.getId()))
+                .andExpect(jsonPath("$[1].registrationCount").value(3))
+                .andExpect(jsonPath("$[1].availableSpots").value(7));
+    }
+
+    @Test
+    void getAvailability_WithTooManyIds_ShouldReturnBadRequest() throws Exception {
+        String ids = LongStream.rangeClosed(1, 201)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(","));
+
+        mockMvc.perform(get("/api/public/events/availability").param("ids", ids))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    void streamAvailability_ShouldUseItsOwnAsyncTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/public/events/availability/stream")
+                        .param("ids", limitedEvent.getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Max duration (5m) plus the margin, rather than an application-wide async timeout
+        assertEquals(Duration.ofMinutes(6).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+        result.getRequest().getAsyncContext().complete();
+    }
+
+    private static Event event(String title, Integer capacity) {
+        Event event = new Event();
+        event.setTitle(title);
+        event.setDescription("Test Description");
+        event.setLocation("Test Location");
+        event.setDateTime(LocalDateTime.now().plusDays(7));
+        event.setCapacity(capacity);
+        event.setOrganizerId(1L);
+        return event;
+    }
+}
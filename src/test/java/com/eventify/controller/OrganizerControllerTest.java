@@ -1,8 +1,10 @@
 package com.eventify.controller;
 
 import com.eventify.dto.EventDto;
+import com.eventify.model.ArchivedEvent;
 import com.eventify.model.Event;
 import com.eventify.model.User;
+import com.eventify.repository.ArchivedEventRepository;
 import com.eventify.repository.EventRepository;
 import com.eventify.repository.RegistrationRepository;
 import com.eventify.repository.UserRepository;
@@ -12,7 +14,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -20,6 +24,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -45,9 +51,15 @@ class OrganizerControllerTest {
     @Autowired
     private RegistrationRepository registrationRepository;
 
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private User organizer;
     private User otherOrganizer;
     private Event testEvent;
@@ -90,6 +102,25 @@ class OrganizerControllerTest {
                 .andExpect(jsonPath("$[0].title").value("Test Event"));
     }
 
+    @Test
+    void getOrganizerEvents_ShouldOnlyIncludeArchivedEventsWhenAsked() throws Exception {
+        archivedEventRepository.save(new ArchivedEvent(testEvent.getId() + 1000, "Archived Event", null, "Old Hall",
+                LocalDateTime.now().minusYears(2), 50, organizer.getId(), 0L, LocalDateTime.now()));
+
+        mockMvc.perform(get("/api/organizer/events")
+                        .with(httpBasic("organizer@example.com", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        mockMvc.perform(get("/api/organizer/events")
+                        .param("includeArchived", "true")
+                        .with(httpBasic("organizer@example.com", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].title").value("Archived Event"))
+                .andExpect(jsonPath("$[1].availableSpots").value(50));
+    }
+
     @Test
     void getOrganizerEvents_WithNoEvents_ShouldReturnEmptyList() throws Exception {
         mockMvc.perform(get("/api/organizer/events")
@@ -147,6 +178,93 @@ class OrganizerControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void importEvents_WithNdjson_ShouldCreateValidEventsAndReportEachLine() throws Exception {
+        String future = LocalDateTime.now().plusDays(30).withNano(0).toString();
+        String body = "{\"title\":\"Session A\",\"location\":\"Hall 1\",\"dateTime\":\"" + future + "\",\"capacity\":40}\n"
+                + "\n"
+                + "{\"title\":\"\",\"location\":\"Hall 2\",\"dateTime\":\"" + future + "\",\"capacity\":40}\n"
+                + "not json\n"
+                + "{\"title\":\"Session B\",\"location\":\"Hall 3\",\"dateTime\":\"" + future + "\",\"capacity\":25}\n";
+
+        String results = mockMvc.perform(post("/api/organizer/events/import")
+                        .with(httpBasic("organizer@example.com", "password123"))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = results.split("\n");
+        assertEquals(4, lines.length);
+        assertEquals(1, objectMapper.readTree(lines[0]).get("line").asInt());
+        assertEquals("CREATED", objectMapper.readTree(lines[0]).get("status").asText());
+        assertEquals("INVALID", objectMapper.readTree(lines[1]).get("status").asText());
+        assertEquals("Title is required", objectMapper.readTree(lines[1]).get("errors").get(0).asText());
+        assertEquals(4, objectMapper.readTree(lines[2]).get("line").asInt());
+        assertEquals("INVALID", objectMapper.readTree(lines[2]).get("status").asText());
+        assertEquals(5, objectMapper.readTree(lines[3]).get("line").asInt());
+
+        long importedId = objectMapper.readTree(lines[3]).get("eventId").asLong();
+        Event imported = eventRepository.findById(importedId).orElseThrow();
+        assertEquals("Session B", imported.getTitle());
+        assertEquals(organizer.getId(), imported.getOrganizerId());
+        assertEquals(3, eventRepository.findByOrganizerId(organizer.getId()).size());
+    }
+
+    @Test
+    void importEvents_WithOversizedTitle_ShouldRejectOnlyThatLine() throws Exception {
+        String future = LocalDateTime.now().plusDays(30).withNano(0).toString();
+        String body = "{\"title\":\"" + "x".repeat(256) + "\",\"location\":\"Hall 1\",\"dateTime\":\"" + future + "\",\"capacity\":40}\n"
+                + "{\"title\":\"Session C\",\"location\":\"Hall 2\",\"dateTime\":\"" + future + "\",\"capacity\":40}\n";
+
+        mockMvc.perform(post("/api/organizer/events/import")
+                        .with(httpBasic("organizer@example.com", "password123"))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "{\"line\":1,\"status\":\"INVALID\",\"errors\":[\"Title must be at most 255 characters\"]}")))
+                .andExpect(content().string(containsString("\"line\":2,\"status\":\"CREATED\"")));
+
+        assertEquals(2, eventRepository.findByOrganizerId(organizer.getId()).size());
+    }
+
+    @Test
+    void importEvents_WithCsv_ShouldMapColumnsByHeader() throws Exception {
+        String future = LocalDateTime.now().plusDays(30).withNano(0).toString();
+        String body = "capacity,title,location,dateTime,description\r\n"
+                + "120,\"Keynote, Day 1\",Main Hall," + future + ",\"The \"\"big\"\" one\"\r\n"
+                + "many,Workshop,Room 2," + future + ",\r\n";
+
+        mockMvc.perform(post("/api/organizer/events/import")
+                        .with(httpBasic("organizer@example.com", "password123"))
+                        .contentType("text/csv")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"line\":2,\"status\":\"CREATED\"")))
+                .andExpect(content().string(containsString(
+                        "{\"line\":3,\"status\":\"INVALID\",\"errors\":[\"Capacity must be a whole number\"]}")));
+
+        Event keynote = eventRepository.findByOrganizerId(organizer.getId()).stream()
+                .filter(event -> event.getTitle().equals("Keynote, Day 1"))
+                .findFirst().orElseThrow();
+        assertEquals("The \"big\" one", keynote.getDescription());
+        assertEquals(120, keynote.getCapacity());
+    }
+
+    @Test
+    void importEvents_WithUnknownCsvColumn_ShouldRejectHeader() throws Exception {
+        mockMvc.perform(post("/api/organizer/events/import")
+                        .with(httpBasic("organizer@example.com", "password123"))
+                        .contentType("text/csv")
+                        .content("title,venue\nTalk,Room 1\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"line\":1,\"status\":\"INVALID\"")));
+
+        assertEquals(1, eventRepository.findByOrganizerId(organizer.getId()).size());
+    }
+
     @Test
     void updateEvent_AsOwner_ShouldUpdateEvent() throws Exception {
         EventDto eventDto = new EventDto();
@@ -165,6 +283,121 @@ class OrganizerControllerTest {
                 .andExpect(jsonPath("$.capacity").value(200));
     }
 
+    @Test
+    void updateEvent_WithCurrentIfMatch_ShouldUpdateAndReturnNewETag() throws Exception {
+        EventDto eventDto = new EventDto();
+        eventDto.setTitle("Updated Event");
+        eventDto.setLocation("Updated Location");
+        eventDto.setDateTime(LocalDateTime.now().plusDays(14));
+        eventDto.setCapacity(200);
+        // testEvent is managed by the test transaction, so the update bumps its version too
+        Long version = testEvent.getVersion();
+
+        mockMvc.perform(put("/api/organizer/events/" + testEvent.getId())
+                        .with(httpBasic("organizer@example.com", "password123"))
+                        .header(HttpHeaders.IF_MATCH, "\"" + version + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "\""))
+                .andExpect(jsonPath("$.version").value(version + 1));
+    }
+
+    @Test
+    void updateEvent_WithWeakIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        EventDto eventDto = new EventDto();
+        eventDto.setTitle("Updated Event");
+        eventDto.setLocation("Updated Location");
+        eventDto.setDateTime(LocalDateTime.now().plusDays(14));
+        eventDto.setCapacity(200);
+
+        mockMvc.perform(put("/api/organizer/events/" + testEvent.getId())
+                        .with(httpBasic("organizer@example.com", "password123"))
+                        .header(HttpHeaders.IF_MATCH, "W/\"" + testEvent.getVersion() + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void updateEvent_WithStaleIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        EventDto eventDto = new EventDto();
+        eventDto.setTitle("Updated Event");
+        eventDto.setLocation("Updated Location");
+        eventDto.setDateTime(LocalDateTime.now().plusDays(14));
+        eventDto.setCapacity(200);
+
+        mockMvc.perform(put("/api/organizer/events/" + testEvent.getId())
+                        .with(httpBasic("organizer@example.com", "password123"))
+                        .header(HttpHeaders.IF_MATCH, "\"" + (testEvent.getVersion() + 5) + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isPreconditionFailed());
+
+        assertEquals("Test Event", eventRepository.findById(testEvent.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void updateEvent_WhenChangedAfterLoadWithIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        bumpVersionBehindPersistenceContext();
+
+        // The If-Match check passes against the loaded version; the versioned UPDATE then matches no row
+        mockMvc.perform(put("/api/organizer/events/" + testEvent.getId())
+                        .with(httpBasic("organizer@example.com", "password123"))
+                        .header(HttpHeaders.IF_MATCH, "\"" + testEvent.getVersion() + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updatedEventDto())))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+    }
+
+    @Test
+    void updateEvent_WhenChangedAfterLoadWithoutIfMatch_ShouldReturnConflict() throws Exception {
+        bumpVersionBehindPersistenceContext();
+
+        mockMvc.perform(put("/api/organizer/events/" + testEvent.getId())
+                        .with(httpBasic("organizer@example.com", "password123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updatedEventDto())))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflict"));
+    }
+
+    @Test
+    void patchEvent_ShouldOnlyChangeFieldsInThePatch() throws Exception {
+        mockMvc.perform(patch("/api/organizer/events/" + testEvent.getId())
+                        .with(httpBasic("organizer@example.com", "password123"))
+                        .contentType("application/merge-patch+json")
+                        .content("{\"capacity\":150,\"location\":\"Annex\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.capacity").value(150))
+                .andExpect(jsonPath("$.location").value("Annex"))
+                .andExpect(jsonPath("$.title").value("Test Event"))
+                .andExpect(jsonPath("$.description").value("Test Description"));
+    }
+
+    @Test
+    void patchEvent_WithNullRequiredField_ShouldReturnValidationErrors() throws Exception {
+        mockMvc.perform(patch("/api/organizer/events/" + testEvent.getId())
+                        .with(httpBasic("organizer@example.com", "password123"))
+                        .contentType("application/merge-patch+json")
+                        .content("{\"title\":null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.title").value("Title is required"));
+    }
+
+    @Test
+    void patchEvent_WithReadOnlyField_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(patch("/api/organizer/events/" + testEvent.getId())
+                        .with(httpBasic("organizer@example.com", "password123"))
+                        .contentType("application/merge-patch+json")
+                        .content("{\"organizerId\":" + otherOrganizer.getId() + "}"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(organizer.getId(), eventRepository.findById(testEvent.getId()).orElseThrow().getOrganizerId());
+    }
+
     @Test
     void updateEvent_AsNonOwner_ShouldReturnForbidden() throws Exception {
         EventDto eventDto = new EventDto();
@@ -224,4 +457,22 @@ class OrganizerControllerTest {
                 .andExpect(jsonPath("$.name").value("Organizer"))
                 .andExpect(jsonPath("$.email").value("organizer@example.com"));
     }
+
+    /**
+     * Simulates a concurrent update committed after this request loaded the event: the request
+     * shares the test's persistence context, so it still sees the managed event at its old version.
+     */
+    private void bumpVersionBehindPersistenceContext() {
+        jdbcTemplate.update("UPDATE events SET title = ?, version = version + 1 WHERE id = ?",
+                "Concurrent Title", testEvent.getId());
+    }
+
+    private static EventDto updatedEventDto() {
+        EventDto eventDto = new EventDto();
+        eventDto.setTitle("Updated Event");
+        eventDto.setLocation("Updated Location");
+        eventDto.setDateTime(LocalDateTime.now().plusDays(14));
+        eventDto.setCapacity(200);
+        return eventDto;
+    }
 }
@@ -1,10 +1,14 @@
 package com.eventify.controller;
 
+import com.eventify.config.JacksonConfig;
 import com.eventify.dto.UserRegistrationDto;
 import com.eventify.model.Event;
+import com.eventify.model.Registration;
 import com.eventify.model.User;
 import com.eventify.repository.EventRepository;
+import com.eventify.repository.RegistrationRepository;
 import com.eventify.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +23,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -40,6 +46,9 @@ class PublicControllerTest {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -136,4 +145,76 @@ class PublicControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$").isEmpty());
     }
+
+    @Test
+    void getPublicEvents_WhenAuthenticated_ShouldFlagRegisteredEvents() throws Exception {
+        Event registeredEvent = new Event();
+        registeredEvent.setTitle("Registered Event");
+        registeredEvent.setDateTime(LocalDateTime.now().plusDays(7));
+        registeredEvent.setCapacity(100);
+        registeredEvent.setOrganizerId(testUser.getId());
+        registeredEvent = eventRepository.save(registeredEvent);
+
+        Event otherEvent = new Event();
+        otherEvent.setTitle("Other Event");
+        otherEvent.setDateTime(LocalDateTime.now().plusDays(8));
+        otherEvent.setCapacity(100);
+        otherEvent.setOrganizerId(testUser.getId());
+        eventRepository.save(otherEvent);
+
+        Registration registration = new Registration();
+        registration.setUserId(testUser.getId());
+        registration.setEventId(registeredEvent.getId());
+        registration.setRegisteredAt(LocalDateTime.now());
+        registration.setStatus("CONFIRMED");
+        registrationRepository.save(registration);
+
+        mockMvc.perform(get("/api/public/events")
+                        .with(httpBasic("test@example.com", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Registered Event"))
+                .andExpect(jsonPath("$[0].registered").value(true))
+                .andExpect(jsonPath("$[1].registered").value(false));
+
+        mockMvc.perform(get("/api/public/events"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].registered").doesNotExist());
+    }
+
+    @Test
+    void getPublicEvents_WithSmileAccept_ShouldReturnSmile() throws Exception {
+        Event event = new Event();
+        event.setTitle("Smile Event");
+        event.setDescription("Test Description");
+        event.setLocation("Test Location");
+        event.setDateTime(LocalDateTime.now().plusDays(7));
+        event.setCapacity(100);
+        event.setOrganizerId(testUser.getId());
+        eventRepository.save(event);
+
+        byte[] body = mockMvc.perform(get("/api/public/events")
+                        .accept(JacksonConfig.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(JacksonConfig.APPLICATION_SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode events = new JacksonConfig().smileMapper().readTree(body);
+        assertEquals("Smile Event", events.get(0).get("title").asText());
+        assertEquals(100, events.get(0).get("availableSpots").asInt());
+    }
+
+    @Test
+    void registerUser_WithCborBody_ShouldReturnCreated() throws Exception {
+        UserRegistrationDto dto = new UserRegistrationDto();
+        dto.setName("Cbor User");
+        dto.setEmail("cbor@example.com");
+        dto.setPassword("password123");
+
+        mockMvc.perform(post("/api/public/users")
+                        .contentType(JacksonConfig.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(new JacksonConfig().cborMapper().writeValueAsBytes(dto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.email").value("cbor@example.com"));
+    }
 }
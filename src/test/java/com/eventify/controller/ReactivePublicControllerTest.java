@@ -0,0 +1,105 @@
+package com.eventify.controller;
+
+import com.eventify.model.Event;
+import com.eventify.model.Registration;
+import com.eventify.repository.EventRepository;
+import com.eventify.repository.RegistrationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not @Transactional: R2DBC reads use their own connections and only see committed rows.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReactivePublicControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    private Event testEvent;
+
+    @BeforeEach
+    void setUp() {
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+
+        testEvent = new Event();
+        testEvent.setTitle("Reactive Event");
+        testEvent.setDescription("Test Description");
+        testEvent.setLocation("Test Location");
+        testEvent.setDateTime(LocalDateTime.now().plusDays(7));
+        testEvent.setCapacity(100);
+        testEvent.setOrganizerId(1L);
+        testEvent = eventRepository.save(testEvent);
+
+        Registration registration = new Registration();
+        registration.setUserId(1L);
+        registration.setEventId(testEvent.getId());
+        registration.setRegisteredAt(LocalDateTime.now());
+        registration.setStatus("CONFIRMED");
+        registrationRepository.save(registration);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    void getPublicEvents_ShouldReturnEventsWithAvailability() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/public/reactive/events")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Reactive Event"))
+                .andExpect(jsonPath("$[0].availableSpots").value(99));
+    }
+
+    @Test
+    void getEvent_ShouldReturnEventWithAvailability() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/public/reactive/events/" + testEvent.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Reactive Event"))
+                .andExpect(jsonPath("$.availableSpots").value(99));
+    }
+
+    @Test
+    void getEvent_WhenNotFound_ShouldReturnNotFound() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/public/reactive/events/99999"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+}
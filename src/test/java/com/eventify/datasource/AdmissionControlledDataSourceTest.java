@@ -0,0 +1,69 @@
+package com.eventify.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlledDataSourceTest {
+
+    private AdmissionControlledDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new AdmissionControlledDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:admission;DB_CLOSE_DELAY=-1", "sa", ""),
+                1,
+                Duration.ofMillis(50));
+    }
+
+    @Test
+    void getConnection_WhenPermitsExhausted_ShouldTimeOut() throws Exception {
+        try (Connection ignored = dataSource.getConnection()) {
+            assertEquals(0, dataSource.getAvailablePermits());
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        }
+    }
+
+    @Test
+    void close_ShouldReleasePermitOnce() throws Exception {
+        Connection connection = dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertEquals(1, dataSource.getAvailablePermits());
+        assertTrue(connection.isClosed());
+    }
+
+    @Test
+    void getConnection_AfterRelease_ShouldAdmitWaitingCaller() throws Exception {
+        AdmissionControlledDataSource patient = new AdmissionControlledDataSource(
+                dataSource.getTargetDataSource(), 1, Duration.ofSeconds(5));
+        AtomicBoolean admitted = new AtomicBoolean();
+        Connection held = patient.getConnection();
+
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try (Connection ignored = patient.getConnection()) {
+                admitted.set(true);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (patient.getWaitingCount() == 0) {
+            Thread.onSpinWait();
+        }
+        held.close();
+        waiter.join(5_000);
+
+        assertTrue(admitted.get());
+        assertEquals(1, patient.getAvailablePermits());
+    }
+}
@@ -0,0 +1,47 @@
+package com.eventify.datasource;
+
+import com.eventify.concurrency.TrafficArea;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadDataSourceTest {
+
+    private final DataSource target = new DriverManagerDataSource("jdbc:h2:mem:bulkhead;DB_CLOSE_DELAY=-1", "sa", "");
+    private final BulkheadDataSource dataSource = new BulkheadDataSource(target,
+            Map.of(TrafficArea.ADMIN, new AdmissionControlledDataSource(target, 1, Duration.ofMillis(50))));
+
+    @AfterEach
+    void tearDown() {
+        TrafficArea.exit();
+    }
+
+    @Test
+    void getConnection_WhenAreaSubPoolExhausted_ShouldOnlyBlockThatArea() throws Exception {
+        TrafficArea.enter(TrafficArea.ADMIN);
+        try (Connection ignored = dataSource.getConnection()) {
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+            TrafficArea.enter(TrafficArea.PUBLIC);
+            try (Connection publicConnection = dataSource.getConnection()) {
+                assertTrue(publicConnection.isValid(1));
+            }
+        }
+    }
+
+    @Test
+    void getConnection_OutsideARequest_ShouldUseSharedPool() throws Exception {
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            assertTrue(first.isValid(1));
+            assertTrue(second.isValid(1));
+        }
+    }
+}
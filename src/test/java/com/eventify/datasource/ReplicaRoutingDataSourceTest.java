@@ -0,0 +1,114 @@
+package com.eventify.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        for (String name : new String[]{"primary", "replica"}) {
+            JdbcTemplate template = new JdbcTemplate(h2("routing_" + name));
+            template.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+            template.update("DELETE FROM marker");
+            template.update("INSERT INTO marker (name) VALUES (?)", name);
+        }
+        useTracker(new ReadYourWritesTracker(Duration.ofMinutes(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica() {
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void readWriteTransaction_ShouldUsePrimary() {
+        assertEquals("primary", readWriteTransaction.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void readOnlyTransaction_AfterOwnWrite_ShouldStickToPrimary() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        useTracker(tracker);
+        authenticate("user@example.com");
+
+        tracker.recordWrite();
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void readOnlyTransaction_AfterLagToleranceElapsed_ShouldUseReplica() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ZERO);
+        useTracker(tracker);
+        authenticate("user@example.com");
+
+        tracker.recordWrite();
+
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void readOnlyTransaction_ForOtherUser_ShouldUseReplica() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        useTracker(tracker);
+        tracker.recordWrite("other@example.com");
+        authenticate("user@example.com");
+
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentDatabase()));
+    }
+
+    private void useTracker(ReadYourWritesTracker tracker) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(tracker);
+        routing.setTargetDataSources(Map.of(
+                DataSourceRoute.PRIMARY, h2("routing_primary"),
+                DataSourceRoute.REPLICA, h2("routing_replica")
+        ));
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                email, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL", "sa", "");
+    }
+}
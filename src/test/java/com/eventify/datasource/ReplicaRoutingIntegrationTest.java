@@ -0,0 +1,117 @@
+package com.eventify.datasource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Replica routing against two H2 databases holding the same user and event under different names,
+ * so each response and row shows which database served it. Not transactional: a test transaction
+ * would hold one connection for the whole request and decide the route itself. The second-level
+ * cache is off, since a user or event cached by another test would be served without reaching either.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingIntegrationTest.PRIMARY_URL,
+        "eventify.datasource.replica.enabled=true",
+        "eventify.datasource.replica.url=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "eventify.datasource.replica.username=sa",
+        "eventify.datasource.replica.password=",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReplicaRoutingIntegrationTest {
+
+    static final String PRIMARY_URL =
+            "jdbc:h2:mem:routing_it_primary;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+    static final String REPLICA_URL =
+            "jdbc:h2:mem:routing_it_replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+
+    private static final long USER_ID = 1001L;
+    private static final long EVENT_ID = 2001L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final JdbcTemplate primary = new JdbcTemplate(h2(PRIMARY_URL));
+    private final JdbcTemplate replica = new JdbcTemplate(h2(REPLICA_URL));
+
+    @BeforeEach
+    void setUp() {
+        // Flyway only migrates the primary; the replica gets the same schema as a streaming copy would
+        Flyway.configure().dataSource(h2(REPLICA_URL)).load().migrate();
+        seed(primary, "Primary Copy");
+        seed(replica, "Replica Copy");
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (JdbcTemplate database : new JdbcTemplate[]{primary, replica}) {
+            database.update("DELETE FROM registrations");
+            database.update("DELETE FROM events");
+            database.update("DELETE FROM users");
+        }
+    }
+
+    @Test
+    void getProfile_ReadOnly_ShouldBeServedByReplica() throws Exception {
+        mockMvc.perform(get("/api/user/profile")
+                        .with(httpBasic("routing@example.com", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Replica Copy"));
+    }
+
+    @Test
+    void registerForEvent_ReadThenWriteInOneRequest_ShouldWriteToPrimary() throws Exception {
+        // findByEmail runs first in a read-only transaction; the registration must not reuse its connection
+        mockMvc.perform(post("/api/user/events/" + EVENT_ID + "/register")
+                        .with(httpBasic("routing@example.com", "password123")))
+                .andExpect(status().isCreated());
+
+        assertEquals(1, registrations(primary));
+        assertEquals(0, registrations(replica));
+    }
+
+    private void seed(JdbcTemplate database, String name) {
+        database.update("INSERT INTO users (id, name, email, password, role) VALUES (?, ?, ?, ?, ?)",
+                USER_ID, name, "routing@example.com", passwordEncoder.encode("password123"), "ROLE_USER");
+        database.update("INSERT INTO events (id, title, description, location, date_time, capacity, organizer_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                EVENT_ID, name, "Routing test", "Test Location",
+                Timestamp.valueOf(LocalDateTime.now().plusDays(7)), 100, USER_ID);
+    }
+
+    private static Integer registrations(JdbcTemplate database) {
+        return database.queryForObject(
+                "SELECT COUNT(*) FROM registrations WHERE user_id = ? AND event_id = ?",
+                Integer.class, USER_ID, EVENT_ID);
+    }
+
+    private static DataSource h2(String url) {
+        return new DriverManagerDataSource(url, "sa", "");
+    }
+}
@@ -0,0 +1,164 @@
+package com.eventify.diagnostics;
+
+import com.eventify.model.ArchivedEvent;
+import com.eventify.model.ArchivedRegistration;
+import com.eventify.model.Event;
+import com.eventify.model.Registration;
+import com.eventify.model.User;
+import com.eventify.repository.ArchivedEventRepository;
+import com.eventify.repository.ArchivedRegistrationRepository;
+import com.eventify.repository.EventRepository;
+import com.eventify.repository.RegistrationRepository;
+import com.eventify.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The listing endpoints against the budgets of application.properties, with more events than the
+ * N+1 threshold so a per-event query fails the request. Caches are cold inside the test transaction,
+ * so these are worst-case counts.
+ */
+@SpringBootTest(properties = "eventify.sql-budget.fail-on-violation=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class EndpointSqlBudgetTest {
+
+    private static final int EVENTS = 6;
+    private static final int ARCHIVED_EVENTS = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Autowired
+    private ArchivedRegistrationRepository archivedRegistrationRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User organizer = saveUser("budget-organizer@example.com", "ROLE_ORGANIZER");
+        User attendee = saveUser("budget-attendee@example.com", "ROLE_USER");
+
+        List<Registration> registrations = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            Event event = new Event();
+            event.setTitle("Budget Event " + i);
+            event.setLocation("Main Hall");
+            event.setDateTime(LocalDateTime.now().plusDays(7 + i));
+            event.setCapacity(50);
+            event.setOrganizerId(organizer.getId());
+            event = eventRepository.save(event);
+            // The attendee plus a few others, so every event has a count of its own
+            registrations.add(registration(attendee.getId(), event.getId()));
+            for (int j = 0; j < i; j++) {
+                registrations.add(registration(10_000L + j, event.getId()));
+            }
+        }
+        registrationRepository.saveAll(registrations);
+
+        List<ArchivedEvent> archivedEvents = new ArrayList<>();
+        List<ArchivedRegistration> archivedRegistrations = new ArrayList<>();
+        for (int i = 0; i < ARCHIVED_EVENTS; i++) {
+            long archivedEventId = 100_000L + i;
+            archivedEvents.add(new ArchivedEvent(archivedEventId, "Archived Event " + i, null, "Old Hall",
+                    LocalDateTime.now().minusYears(2).plusDays(i), 50, organizer.getId(), 0L, LocalDateTime.now()));
+            archivedRegistrations.add(new ArchivedRegistration(100_000L + i, attendee.getId(), archivedEventId,
+                    LocalDateTime.now().minusYears(2), "CONFIRMED", LocalDateTime.now()));
+        }
+        archivedEventRepository.saveAll(archivedEvents);
+        // Flushes everything still pending, so no setup statement runs inside a measured request
+        archivedRegistrationRepository.saveAllAndFlush(archivedRegistrations);
+    }
+
+    @Test
+    void publicEvents_ShouldStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/public/events"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(EVENTS));
+
+        mockMvc.perform(get("/api/public/events")
+                        .with(httpBasic("budget-attendee@example.com", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].registered").value(true));
+    }
+
+    @Test
+    void userRegistrations_ShouldStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/user/registrations")
+                        .with(httpBasic("budget-attendee@example.com", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(EVENTS));
+
+        mockMvc.perform(get("/api/user/registrations")
+                        .param("includeArchived", "true")
+                        .with(httpBasic("budget-attendee@example.com", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(EVENTS + ARCHIVED_EVENTS));
+    }
+
+    @Test
+    void organizerEvents_ShouldStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/organizer/events")
+                        .with(httpBasic("budget-organizer@example.com", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(EVENTS));
+
+        mockMvc.perform(get("/api/organizer/events")
+                        .param("includeArchived", "true")
+                        .with(httpBasic("budget-organizer@example.com", "password123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(EVENTS + ARCHIVED_EVENTS));
+    }
+
+    private User saveUser(String email, String role) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email);
+        user.setPassword(passwordEncoder.encode("password123"));
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private static Registration registration(Long userId, Long eventId) {
+        Registration registration = new Registration();
+        registration.setUserId(userId);
+        registration.setEventId(eventId);
+        registration.setRegisteredAt(LocalDateTime.now());
+        registration.setStatus("CONFIRMED");
+        return registration;
+    }
+}
@@ -0,0 +1,93 @@
+package com.eventify.diagnostics;
+
+import com.eventify.exception.SqlBudgetExceededException;
+import com.eventify.model.User;
+import com.eventify.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "eventify.sql-budget.fail-on-violation=true",
+        "eventify.sql-budget.endpoints[/api/user/registrations]=0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class SqlBudgetFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setName("Budget User");
+        user.setEmail("budget@example.com");
+        user.setPassword(passwordEncoder.encode("password123"));
+        user.setRole("ROLE_USER");
+        userRepository.save(user);
+    }
+
+    @Test
+    void request_OverEndpointBudget_ShouldFailAndCountViolation() {
+        SqlBudgetExceededException exception = assertThrows(SqlBudgetExceededException.class, () ->
+                mockMvc.perform(get("/api/user/registrations")
+                        .with(httpBasic("budget@example.com", "password123"))));
+
+        assertTrue(exception.getMessage().startsWith("GET /api/user/registrations"));
+        assertEquals(1.0, meterRegistry.get("eventify.sql.budget.exceeded")
+                .tag("endpoint", "GET /api/user/registrations").counter().count());
+    }
+
+    @Test
+    void request_WithinDefaultBudget_ShouldPass() throws Exception {
+        mockMvc.perform(get("/api/user/profile")
+                        .with(httpBasic("budget@example.com", "password123")))
+                .andExpect(status().isOk());
+
+        assertTrue(meterRegistry.get("eventify.sql.statements")
+                .tag("endpoint", "GET /api/user/profile").summary().count() >= 1);
+    }
+
+    @Test
+    void inspector_ShouldReportRepeatedStatementAsMostRepeated() {
+        RequestStatementInspector inspector = new RequestStatementInspector();
+        RequestStatements statements = RequestStatements.begin();
+        try {
+            inspector.inspect("select e.id from events e where e.id=?");
+            for (int i = 0; i < 5; i++) {
+                inspector.inspect("select count(r.id) from registrations r where r.event_id=?");
+            }
+        } finally {
+            RequestStatements.end();
+        }
+        inspector.inspect("select 1");
+
+        assertEquals(6, statements.getTotal());
+        assertEquals("select count(r.id) from registrations r where r.event_id=?", statements.mostRepeated().getKey());
+        assertEquals(5, statements.mostRepeated().getValue());
+        assertNull(RequestStatements.current());
+    }
+}
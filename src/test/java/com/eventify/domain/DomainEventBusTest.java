@@ -0,0 +1,161 @@
+package com.eventify.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DomainEventBusTest {
+
+    private DomainEventBus bus;
+
+    @AfterEach
+    void tearDown() {
+        if (bus != null) {
+            bus.stop();
+        }
+    }
+
+    @Test
+    void publish_ShouldDeliverEventsInOrderToEveryConsumer() {
+        RecordingConsumer first = new RecordingConsumer("first");
+        RecordingConsumer second = new RecordingConsumer("second");
+        bus = start(List.of(first, second), disabledOutbox(), 128);
+
+        for (long eventId = 1; eventId <= 100; eventId++) {
+            bus.publish(new EventUpdated(eventId));
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> first.eventIds().size() == 100 && second.eventIds().size() == 100);
+        List<Long> expected = new ArrayList<>();
+        for (long eventId = 1; eventId <= 100; eventId++) {
+            expected.add(eventId);
+        }
+        assertEquals(expected, first.eventIds());
+        assertEquals(expected, second.eventIds());
+        assertEquals(0, bus.lag("first"));
+    }
+
+    @Test
+    void publish_WhenConsumerFails_ShouldKeepDeliveringToOthers() {
+        DomainEventConsumer failing = new DomainEventConsumer() {
+            @Override
+            public String consumerName() {
+                return "failing";
+            }
+
+            @Override
+            public void onDomainEvents(List<DomainEvent> events) {
+                throw new IllegalStateException("boom");
+            }
+        };
+        RecordingConsumer healthy = new RecordingConsumer("healthy");
+        bus = start(List.of(failing, healthy), disabledOutbox(), 16);
+
+        bus.publish(new EventDeleted(1L));
+        bus.publish(new EventDeleted(2L));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> healthy.eventIds().size() == 2);
+        await().atMost(Duration.ofSeconds(5)).until(() -> bus.lag("failing") == 0);
+    }
+
+    @Test
+    void publish_WhenBufferStaysFull_ShouldDropAfterTimeout() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        DomainEventConsumer blocked = new DomainEventConsumer() {
+            @Override
+            public String consumerName() {
+                return "blocked";
+            }
+
+            @Override
+            public void onDomainEvents(List<DomainEvent> events) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        bus = start(List.of(blocked), disabledOutbox(), 2);
+
+        bus.publish(new EventUpdated(1L));
+        bus.publish(new EventUpdated(2L));
+        bus.publish(new EventUpdated(3L));
+
+        assertEquals(1, bus.droppedCount());
+        release.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> bus.lag("blocked") == 0);
+    }
+
+    @Test
+    void relayOutbox_ShouldDeleteHandledEventsAndRedeliverLeftovers() {
+        DomainEventOutbox outbox = mock(DomainEventOutbox.class);
+        when(outbox.isEnabled()).thenReturn(true);
+        when(outbox.append(any())).thenReturn(10L);
+        RegistrationCreated leftover = new RegistrationCreated(7L, 1L, 3L, Instant.parse("2030-01-01T00:00:00Z"));
+        when(outbox.findOlderThan(any(), anyInt()))
+                .thenReturn(List.of(new DomainEventOutbox.StoredEvent(5L, leftover)))
+                .thenReturn(List.of());
+        RecordingConsumer consumer = new RecordingConsumer("consumer");
+        bus = start(List.of(consumer), outbox, 16);
+
+        bus.publish(new EventUpdated(2L));
+        await().atMost(Duration.ofSeconds(5)).until(() -> bus.lag("consumer") == 0);
+        bus.relayOutbox();
+
+        verify(outbox).delete(List.of(10L));
+        await().atMost(Duration.ofSeconds(5)).until(() -> bus.lag("consumer") == 0);
+        assertEquals(List.of(2L, 3L), consumer.eventIds());
+        bus.relayOutbox();
+        verify(outbox).delete(List.of(5L));
+    }
+
+    private static DomainEventBus start(List<DomainEventConsumer> consumers, DomainEventOutbox outbox, int bufferSize) {
+        DomainEventBus bus = new DomainEventBus(consumers, outbox, bufferSize, 8,
+                Duration.ofMillis(50), Duration.ofSeconds(30), 100);
+        bus.start();
+        return bus;
+    }
+
+    private static DomainEventOutbox disabledOutbox() {
+        return new DomainEventOutbox(false, null, null);
+    }
+
+    private static final class RecordingConsumer implements DomainEventConsumer {
+
+        private final String name;
+        private final List<Long> eventIds = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingConsumer(String name) {
+            this.name = name;
+        }
+
+        List<Long> eventIds() {
+            synchronized (eventIds) {
+                return new ArrayList<>(eventIds);
+            }
+        }
+
+        @Override
+        public String consumerName() {
+            return name;
+        }
+
+        @Override
+        public void onDomainEvents(List<DomainEvent> events) {
+            events.forEach(event -> eventIds.add(event.eventId()));
+        }
+    }
+}
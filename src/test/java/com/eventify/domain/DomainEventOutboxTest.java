@@ -0,0 +1,48 @@
+package com.eventify.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DomainEventOutboxTest {
+
+    private final DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:outbox_test;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final DomainEventOutbox outbox =
+            new DomainEventOutbox(true, jdbcTemplate, new ObjectMapper().findAndRegisterModules());
+
+    @BeforeEach
+    void setUp() {
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM domain_event_outbox");
+    }
+
+    @Test
+    void findOlderThan_WithUnreadableRow_ShouldReturnTheOthersAndDeleteIt() {
+        jdbcTemplate.update("INSERT INTO domain_event_outbox (event_type, payload, created_at) VALUES (?, ?, ?)",
+                "RegistrationCreated", "{\"type\":\"RegistrationRenamed\"}", Timestamp.from(Instant.now()));
+        Long readable = outbox.append(new RegistrationCreated(5L, 1L, 10L));
+
+        List<DomainEventOutbox.StoredEvent> found = outbox.findOlderThan(Instant.now().plusSeconds(1), 10);
+
+        assertEquals(1, found.size());
+        assertEquals(readable, found.get(0).id());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM domain_event_outbox", Integer.class));
+    }
+}
@@ -0,0 +1,58 @@
+package com.eventify.exception;
+
+import com.eventify.dto.ErrorResponse;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final WebRequest request = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/user/events/1/register"));
+
+    @Test
+    void handleDataIntegrityViolation_OnRegistrationUniqueIndex_ShouldReturnConflict() {
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolation(
+                violation("PUBLIC.UK_REGISTRATIONS_USER_EVENT ON PUBLIC.REGISTRATIONS(USER_ID, EVENT_ID)"), request);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void handleDataIntegrityViolation_OnEmailUniqueConstraint_ShouldReturnConflict() {
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolation(violation("uk_users_email"), request);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void handleDataIntegrityViolation_OnNotNull_ShouldNotReturnConflict() {
+        DataIntegrityViolationException notNull = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("NULL not allowed for column \"EMAIL\"", "23502"));
+
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolation(notNull, request);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    @Test
+    void handleDataIntegrityViolation_OnOtherConstraint_ShouldNotReturnConflict() {
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolation(violation("fk_registrations_event"), request);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    private static DataIntegrityViolationException violation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("constraint violated", new SQLException("23505"), constraintName));
+    }
+}
@@ -0,0 +1,100 @@
+package com.eventify.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalFileTest {
+
+    private static final LocalDateTime REGISTERED_AT = LocalDateTime.of(2030, 5, 1, 18, 30, 15, 123_456_000);
+    private static final int CAPACITY = JournalFile.HEADER_SIZE + 10 * JournalFile.RECORD_SIZE;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recover_ShouldReturnRecordsPastCheckpoint() throws Exception {
+        Path path = directory.resolve("registrations.journal");
+        try (JournalFile file = JournalFile.open(path, CAPACITY)) {
+            file.recover();
+            JournalEntry first = file.append(1L, 10L, REGISTERED_AT);
+            file.append(2L, 10L, REGISTERED_AT);
+            file.append(3L, 11L, REGISTERED_AT);
+            file.force(file.position());
+            file.checkpoint(first.sequence());
+        }
+
+        try (JournalFile reopened = JournalFile.open(path, CAPACITY)) {
+            List<JournalEntry> unflushed = reopened.recover();
+
+            assertEquals(List.of(2L, 3L), unflushed.stream().map(JournalEntry::userId).toList());
+            assertEquals(REGISTERED_AT, unflushed.get(0).registeredAt());
+            assertEquals(4, reopened.append(4L, 12L, REGISTERED_AT).sequence());
+        }
+    }
+
+    @Test
+    void recover_ShouldStopAtCorruptedRecord() throws Exception {
+        Path path = directory.resolve("registrations.journal");
+        try (JournalFile file = JournalFile.open(path, CAPACITY)) {
+            file.recover();
+            file.append(1L, 10L, REGISTERED_AT);
+            file.append(2L, 10L, REGISTERED_AT);
+            file.force(file.position());
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            // Flip a byte in the second record's user id, as a torn write would
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), JournalFile.HEADER_SIZE + JournalFile.RECORD_SIZE + 16);
+        }
+
+        try (JournalFile reopened = JournalFile.open(path, CAPACITY)) {
+            List<JournalEntry> unflushed = reopened.recover();
+
+            assertEquals(1, unflushed.size());
+            assertEquals(JournalFile.HEADER_SIZE + JournalFile.RECORD_SIZE, reopened.position());
+        }
+    }
+
+    @Test
+    void append_WhenFull_ShouldReturnNull() throws Exception {
+        try (JournalFile file = JournalFile.open(directory.resolve("full.journal"), CAPACITY)) {
+            file.recover();
+            for (int i = 0; i < 10; i++) {
+                assertNotNull(file.append((long) i, 10L, REGISTERED_AT));
+            }
+
+            assertNull(file.append(11L, 10L, REGISTERED_AT));
+        }
+    }
+
+    @Test
+    void resetIfLargerThan_ShouldNotReplayOldRecords() throws Exception {
+        Path path = directory.resolve("registrations.journal");
+        try (JournalFile file = JournalFile.open(path, CAPACITY)) {
+            file.recover();
+            file.append(1L, 10L, REGISTERED_AT);
+            file.append(2L, 10L, REGISTERED_AT);
+            JournalEntry last = file.append(3L, 10L, REGISTERED_AT);
+            file.checkpoint(last.sequence());
+
+            assertTrue(file.resetIfLargerThan(JournalFile.HEADER_SIZE));
+            file.append(4L, 10L, REGISTERED_AT);
+            file.force(file.position());
+        }
+
+        try (JournalFile reopened = JournalFile.open(path, CAPACITY)) {
+            List<JournalEntry> unflushed = reopened.recover();
+
+            assertEquals(List.of(4L), unflushed.stream().map(JournalEntry::userId).toList());
+            assertEquals(4, unflushed.get(0).sequence());
+        }
+    }
+}
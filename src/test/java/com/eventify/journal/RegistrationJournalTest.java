@@ -0,0 +1,171 @@
+package com.eventify.journal;
+
+import com.eventify.domain.DomainEvent;
+import com.eventify.domain.DomainEventBus;
+import com.eventify.domain.RegistrationCreated;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatcher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * The journal against a migrated H2 database, so the conditional insert runs for real.
+ * Journals are opened and closed by hand; a new one on the same file stands in for a restart.
+ */
+class RegistrationJournalTest {
+
+    private static final LocalDateTime REGISTERED_AT = LocalDateTime.of(2030, 5, 1, 18, 30, 15);
+    private static final DataSize CAPACITY = DataSize.ofBytes(JournalFile.HEADER_SIZE + 10 * JournalFile.RECORD_SIZE);
+
+    private final DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:journal_test;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final DomainEventBus domainEventBus = mock(DomainEventBus.class);
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM registrations");
+    }
+
+    @Test
+    void flush_ShouldInsertPendingRegistrationsAndStopTrackingThem() throws Exception {
+        RegistrationJournal journal = openJournal();
+        journal.append(1L, 10L, REGISTERED_AT);
+        journal.append(2L, 10L, REGISTERED_AT);
+        assertEquals(2, journal.pendingCount(10L));
+
+        journal.flush();
+
+        assertEquals(1, registrations(1L, 10L));
+        assertEquals(1, registrations(2L, 10L));
+        assertEquals(0, journal.pendingCount(10L));
+        assertFalse(journal.isPending(1L, 10L));
+        assertEquals(2, journal.countWithPending(10L, () -> registrations(10L)));
+        verify(domainEventBus, times(2)).publish(any(RegistrationCreated.class));
+        journal.close();
+    }
+
+    @Test
+    void open_AfterCrashBetweenInsertAndCheckpoint_ShouldReplayWithoutDuplicates() throws Exception {
+        // Both records synced, but only the first inserted before the process died: no checkpoint yet
+        try (JournalFile file = JournalFile.open(journalPath(), Math.toIntExact(CAPACITY.toBytes()))) {
+            file.recover();
+            file.append(1L, 10L, REGISTERED_AT);
+            file.append(2L, 10L, REGISTERED_AT);
+            file.force(file.position());
+        }
+        insertRegistration(1L, 10L);
+
+        RegistrationJournal restarted = openJournal();
+        assertEquals(2, restarted.pendingCount(10L));
+        restarted.flush();
+
+        assertEquals(1, registrations(1L, 10L));
+        assertEquals(1, registrations(2L, 10L));
+        verify(domainEventBus).publish(argThat(created(2L, 10L)));
+        verifyNoMoreInteractions(domainEventBus);
+        restarted.close();
+
+        // Checkpointed now, so a further restart has nothing to replay
+        RegistrationJournal again = openJournal();
+        assertEquals(0, again.pendingCount(10L));
+        again.close();
+    }
+
+    @Test
+    void flush_WhenRowAlreadyExists_ShouldSkipItWithoutFailingTheBatch() throws Exception {
+        insertRegistration(1L, 10L);
+        RegistrationJournal journal = openJournal();
+        journal.append(1L, 10L, REGISTERED_AT);
+        journal.append(2L, 11L, REGISTERED_AT);
+
+        journal.flush();
+
+        assertEquals(1, registrations(1L, 10L));
+        assertEquals(1, registrations(2L, 11L));
+        assertFalse(journal.isPending(1L, 10L));
+        verify(domainEventBus).publish(argThat(created(2L, 11L)));
+        verifyNoMoreInteractions(domainEventBus);
+        journal.close();
+    }
+
+    @Test
+    void countWithPending_DuringCommit_ShouldNotCountTheBatchTwice() throws Exception {
+        RegistrationJournal journal = openJournal();
+        CompletableFuture<Long> countAfterCommit = new CompletableFuture<>();
+        // Counts from another thread right after the batch committed, before the flusher untracks it
+        doAnswer(invocation -> {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    CompletableFuture.supplyAsync(() -> journal.countWithPending(10L, () -> registrations(10L)))
+                            .whenComplete((count, failure) -> countAfterCommit.complete(count));
+                }
+            });
+            return null;
+        }).when(domainEventBus).publish(any(RegistrationCreated.class));
+        journal.append(1L, 10L, REGISTERED_AT);
+
+        journal.flush();
+
+        assertEquals(1L, countAfterCommit.get());
+        journal.close();
+    }
+
+    private RegistrationJournal openJournal() throws Exception {
+        RegistrationJournal journal = new RegistrationJournal(true, journalPath(), CAPACITY, 100,
+                jdbcTemplate, new DataSourceTransactionManager(dataSource), domainEventBus);
+        journal.open();
+        return journal;
+    }
+
+    private static ArgumentMatcher<DomainEvent> created(Long userId, Long eventId) {
+        return event -> event instanceof RegistrationCreated created
+                && created.userId().equals(userId) && created.eventId().equals(eventId);
+    }
+
+    private Path journalPath() {
+        return directory.resolve("registrations.journal");
+    }
+
+    private void insertRegistration(Long userId, Long eventId) {
+        jdbcTemplate.update("INSERT INTO registrations (user_id, event_id, registered_at, status) VALUES (?, ?, ?, ?)",
+                userId, eventId, Timestamp.valueOf(REGISTERED_AT), "CONFIRMED");
+    }
+
+    private long registrations(Long userId, Long eventId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM registrations WHERE user_id = ? AND event_id = ?", Long.class, userId, eventId);
+    }
+
+    private long registrations(Long eventId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM registrations WHERE event_id = ?", Long.class, eventId);
+    }
+}
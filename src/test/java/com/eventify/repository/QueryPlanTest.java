@@ -0,0 +1,237 @@
+package com.eventify.repository;
+
+import com.eventify.model.ArchivedEvent;
+import com.eventify.model.ArchivedRegistration;
+import com.eventify.model.Event;
+import com.eventify.model.Registration;
+import com.eventify.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every repository query method, captures the SQL Hibernate generates for it and
+ * fails if H2's EXPLAIN plan for any of those statements contains a full table scan.
+ * Caches are disabled so each call reaches the database.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.eventify.repository.RecordingStatementInspector",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Autowired
+    private ArchivedRegistrationRepository archivedRegistrationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            User seeded = new User();
+            seeded.setName("Plan User " + i);
+            seeded.setEmail("plan" + i + "@example.com");
+            seeded.setPassword("password");
+            seeded.setRole("ROLE_USER");
+            users.add(seeded);
+        }
+        users = userRepository.saveAll(users);
+        user = users.get(0);
+
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Event seeded = new Event();
+            seeded.setTitle("Plan Event " + i);
+            seeded.setDateTime(NOW.plusDays(i - 25));
+            seeded.setCapacity(100);
+            seeded.setOrganizerId((long) (i % 5 + 1));
+            events.add(seeded);
+        }
+        events = eventRepository.saveAll(events);
+        event = events.get(30);
+
+        List<Registration> registrations = new ArrayList<>();
+        for (User registrant : users) {
+            for (int i = 0; i < events.size(); i += 5) {
+                Registration registration = new Registration();
+                registration.setUserId(registrant.getId());
+                registration.setEventId(events.get(i).getId());
+                registration.setRegisteredAt(NOW);
+                registration.setStatus("CONFIRMED");
+                registrations.add(registration);
+            }
+        }
+        registrationRepository.saveAll(registrations);
+
+        List<ArchivedEvent> archivedEvents = new ArrayList<>();
+        List<ArchivedRegistration> archivedRegistrations = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            long archivedEventId = 100_000L + i;
+            archivedEvents.add(new ArchivedEvent(archivedEventId, "Archived Event " + i, null, null,
+                    NOW.minusYears(2).plusDays(i), 100, (long) (i % 5 + 1), 0L, NOW));
+            for (int j = 0; j < users.size(); j += 5) {
+                archivedRegistrations.add(new ArchivedRegistration(100_000L + i * 100L + j, users.get(j).getId(),
+                        archivedEventId, NOW.minusYears(2), "CONFIRMED", NOW));
+            }
+        }
+        archivedEventRepository.saveAll(archivedEvents);
+        archivedRegistrationRepository.saveAll(archivedRegistrations);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        registrationRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        // Archive entities are immutable, so they are cleared over JDBC
+        jdbcTemplate.update("DELETE FROM registrations_archive");
+        jdbcTemplate.update("DELETE FROM events_archive");
+    }
+
+    static Stream<RepositoryCall> repositoryCalls() {
+        return Stream.of(
+                new RepositoryCall("EventRepository.findById", test -> test.eventRepository.findById(test.event.getId())),
+                new RepositoryCall("EventRepository.findByOrganizerId", test -> test.eventRepository.findByOrganizerId(1L)),
+                new RepositoryCall("EventRepository.findByDateTimeAfter", test -> test.eventRepository.findByDateTimeAfter(NOW)),
+                new RepositoryCall("EventRepository.findByDateTimeAfterOrderByDateTimeAsc",
+                        test -> test.eventRepository.findByDateTimeAfterOrderByDateTimeAsc(NOW)),
+                new RepositoryCall("EventRepository.findByOrganizerIdAndDateTimeAfter",
+                        test -> test.eventRepository.findByOrganizerIdAndDateTimeAfter(1L, NOW)),
+                new RepositoryCall("EventRepository.findAvailabilityByIdIn",
+                        test -> test.eventRepository.findAvailabilityByIdIn(List.of(test.event.getId(), test.event.getId() + 1))),
+                new RepositoryCall("RegistrationRepository.findByUserId",
+                        test -> test.registrationRepository.findByUserId(test.user.getId())),
+                new RepositoryCall("RegistrationRepository.findByEventId",
+                        test -> test.registrationRepository.findByEventId(test.event.getId())),
+                new RepositoryCall("RegistrationRepository.findEventIdsByUserId",
+                        test -> test.registrationRepository.findEventIdsByUserId(test.user.getId())),
+                new RepositoryCall("RegistrationRepository.findByUserIdAndEventId",
+                        test -> test.registrationRepository.findByUserIdAndEventId(test.user.getId(), test.event.getId())),
+                new RepositoryCall("RegistrationRepository.existsByUserIdAndEventId",
+                        test -> test.registrationRepository.existsByUserIdAndEventId(test.user.getId(), test.event.getId())),
+                new RepositoryCall("RegistrationRepository.countByEventId",
+                        test -> test.registrationRepository.countByEventId(test.event.getId())),
+                new RepositoryCall("RegistrationRepository.countByEventIdIn",
+                        test -> test.registrationRepository.countByEventIdIn(List.of(test.event.getId(), test.event.getId() + 1))),
+                new RepositoryCall("RegistrationRepository.deleteByEventId",
+                        test -> test.registrationRepository.deleteByEventId(test.event.getId())),
+                new RepositoryCall("ArchivedEventRepository.findByOrganizerId",
+                        test -> test.archivedEventRepository.findByOrganizerId(1L)),
+                new RepositoryCall("ArchivedEventRepository.findAllById",
+                        test -> test.archivedEventRepository.findAllById(List.of(100_000L, 100_001L))),
+                new RepositoryCall("ArchivedRegistrationRepository.findByUserId",
+                        test -> test.archivedRegistrationRepository.findByUserId(test.user.getId())),
+                new RepositoryCall("ArchivedRegistrationRepository.countByEventId",
+                        test -> test.archivedRegistrationRepository.countByEventId(100_000L)),
+                new RepositoryCall("ArchivedRegistrationRepository.countByEventIdIn",
+                        test -> test.archivedRegistrationRepository.countByEventIdIn(List.of(100_000L, 100_001L))),
+                new RepositoryCall("UserRepository.findByEmail",
+                        test -> test.userRepository.findByEmail(test.user.getEmail())),
+                new RepositoryCall("UserRepository.existsByEmail",
+                        test -> test.userRepository.existsByEmail(test.user.getEmail()))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryCalls")
+    void repositoryQuery_ShouldNotScanWholeTable(RepositoryCall call) {
+        RecordingStatementInspector.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            call.invoke().accept(this);
+            status.setRollbackOnly();
+        });
+
+        List<String> statements = RecordingStatementInspector.statements().stream()
+                .filter(sql -> !sql.trim().toLowerCase(Locale.ROOT).startsWith("insert"))
+                .toList();
+        assertFalse(statements.isEmpty(), call.name() + " did not reach the database");
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertFalse(plan.toLowerCase(Locale.ROOT).contains("tablescan"),
+                    call.name() + " scans a whole table:\n" + sql + "\n" + plan);
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                ParameterMetaData parameters = statement.getParameterMetaData();
+                for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                    bindSample(statement, i, parameters.getParameterType(i));
+                }
+                try (ResultSet plan = statement.executeQuery()) {
+                    StringBuilder result = new StringBuilder();
+                    while (plan.next()) {
+                        result.append(plan.getString(1)).append('\n');
+                    }
+                    return result.toString();
+                }
+            }
+        });
+    }
+
+    // Values do not influence the plan, but H2 requires every parameter to be bound
+    private static void bindSample(PreparedStatement statement, int index, int sqlType) throws SQLException {
+        switch (sqlType) {
+            case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> statement.setTimestamp(index, Timestamp.valueOf(NOW));
+            case Types.VARCHAR, Types.CHAR, Types.LONGVARCHAR -> statement.setString(index, "sample");
+            default -> statement.setLong(index, 1L);
+        }
+    }
+
+    record RepositoryCall(String name, Consumer<QueryPlanTest> invoke) {
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
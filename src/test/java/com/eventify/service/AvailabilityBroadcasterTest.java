@@ -0,0 +1,170 @@
+package com.eventify.service;
+
+import com.eventify.dto.EventAvailability;
+import com.eventify.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityBroadcasterTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AvailabilityBroadcaster availabilityBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        availabilityBroadcaster = new AvailabilityBroadcaster(eventRepository, transactionManager, Duration.ZERO, false, Duration.ZERO);
+    }
+
+    @Test
+    void subscribe_ShouldStartWithCurrentAvailability() {
+        when(eventRepository.findAvailabilityByIdIn(List.of(1L)))
+                .thenReturn(List.of(new EventAvailability(1L, 100, 40L)));
+
+        StepVerifier.create(availabilityBroadcaster.subscribe(List.of(1L)))
+                .assertNext(availability -> assertEquals(60L, availability.getAvailableSpots()))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void publishChanges_ShouldCoalesceChangesIntoOneUpdate() {
+        when(eventRepository.findAvailabilityByIdIn(List.of(1L)))
+                .thenReturn(List.of(new EventAvailability(1L, 100, 40L)))
+                .thenReturn(List.of(new EventAvailability(1L, 100, 43L)));
+
+        StepVerifier.create(availabilityBroadcaster.subscribe(List.of(1L)))
+                .expectNext(new EventAvailability(1L, 100, 40L))
+                .then(() -> {
+                    availabilityBroadcaster.markChanged(1L);
+                    availabilityBroadcaster.markChanged(1L);
+                    availabilityBroadcaster.markChanged(1L);
+                    availabilityBroadcaster.publishChanges();
+                })
+                .expectNext(new EventAvailability(1L, 100, 43L))
+                .thenCancel()
+                .verify();
+
+        verify(eventRepository, times(2)).findAvailabilityByIdIn(List.of(1L));
+    }
+
+    @Test
+    void publishChanges_WhenCountUnchanged_ShouldNotEmit() {
+        when(eventRepository.findAvailabilityByIdIn(List.of(1L)))
+                .thenReturn(List.of(new EventAvailability(1L, 100, 40L)));
+
+        StepVerifier.create(availabilityBroadcaster.subscribe(List.of(1L)))
+                .expectNext(new EventAvailability(1L, 100, 40L))
+                .then(() -> {
+                    availabilityBroadcaster.markChanged(1L);
+                    availabilityBroadcaster.publishChanges();
+                })
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void publishChanges_WhenEventDeleted_ShouldCompleteStream() {
+        when(eventRepository.findAvailabilityByIdIn(List.of(1L)))
+                .thenReturn(List.of(new EventAvailability(1L, 100, 40L)))
+                .thenReturn(List.of());
+
+        StepVerifier.create(availabilityBroadcaster.subscribe(List.of(1L)))
+                .expectNext(new EventAvailability(1L, 100, 40L))
+                .then(() -> {
+                    availabilityBroadcaster.markChanged(1L);
+                    availabilityBroadcaster.publishChanges();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void publishChanges_WithoutSubscribers_ShouldNotQuery() {
+        availabilityBroadcaster.markChanged(1L);
+        availabilityBroadcaster.publishChanges();
+
+        verifyNoInteractions(eventRepository);
+        assertEquals(0, availabilityBroadcaster.activeStreams());
+    }
+
+    @Test
+    void publishChanges_AfterSubscribe_ShouldRereadChangesMissedByTheSnapshot() {
+        when(eventRepository.findAvailabilityByIdIn(List.of(1L)))
+                .thenReturn(List.of(new EventAvailability(1L, 100, 40L)))
+                .thenReturn(List.of(new EventAvailability(1L, 100, 43L)));
+        // Drained by a tick while there was no stream to publish it to
+        availabilityBroadcaster.markChanged(1L);
+        availabilityBroadcaster.publishChanges();
+
+        StepVerifier.create(availabilityBroadcaster.subscribe(List.of(1L)))
+                .expectNext(new EventAvailability(1L, 100, 40L))
+                .then(availabilityBroadcaster::publishChanges)
+                .expectNext(new EventAvailability(1L, 100, 43L))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void publishChanges_WithNothingChanged_ShouldNotOpenTransaction() {
+        when(eventRepository.findAvailabilityByIdIn(List.of(1L)))
+                .thenReturn(List.of(new EventAvailability(1L, 100, 40L)));
+        availabilityBroadcaster.subscribe(List.of(1L)).subscribe();
+        // Re-reads the new stream once
+        availabilityBroadcaster.publishChanges();
+        clearInvocations(transactionManager);
+
+        availabilityBroadcaster.publishChanges();
+
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void publishChanges_ShouldReadInReadOnlyTransaction() {
+        when(eventRepository.findAvailabilityByIdIn(List.of(1L)))
+                .thenReturn(List.of(new EventAvailability(1L, 100, 40L)));
+        availabilityBroadcaster.subscribe(List.of(1L)).subscribe();
+
+        availabilityBroadcaster.markChanged(1L);
+        availabilityBroadcaster.publishChanges();
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertTrue(definition.getValue().isReadOnly());
+    }
+
+    @Test
+    void publishChanges_WithReplicaRouting_ShouldRecheckAfterLagTolerance() {
+        availabilityBroadcaster = new AvailabilityBroadcaster(
+                eventRepository, transactionManager, Duration.ofMinutes(1), true, Duration.ZERO);
+        when(eventRepository.findAvailabilityByIdIn(List.of(1L)))
+                .thenReturn(List.of(new EventAvailability(1L, 100, 40L)));
+        availabilityBroadcaster.subscribe(List.of(1L)).subscribe();
+
+        availabilityBroadcaster.markChanged(1L);
+        availabilityBroadcaster.publishChanges();
+        availabilityBroadcaster.publishChanges();
+        availabilityBroadcaster.publishChanges();
+
+        // Initial snapshot, the change and one recheck, which is not rescheduled
+        verify(eventRepository, times(3)).findAvailabilityByIdIn(List.of(1L));
+    }
+}
@@ -0,0 +1,86 @@
+package com.eventify.service;
+
+import com.eventify.cache.AvailabilityCounterCache;
+import com.eventify.dto.EventAvailability;
+import com.eventify.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private AvailabilityCounterCache availabilityCounterCache;
+    private AvailabilityService availabilityService;
+
+    @BeforeEach
+    void setUp() {
+        availabilityCounterCache = new AvailabilityCounterCache(true, Duration.ofMinutes(1), 100);
+        availabilityService = new AvailabilityService(eventRepository, availabilityCounterCache);
+    }
+
+    @Test
+    void getAvailability_ShouldReturnKnownEventsInRequestOrder() {
+        when(eventRepository.findAvailabilityByIdIn(List.of(2L, 1L, 99L))).thenReturn(List.of(
+                new EventAvailability(1L, 100, 40L),
+                new EventAvailability(2L, null, 7L)));
+
+        List<EventAvailability> result = availabilityService.getAvailability(List.of(2L, 1L, 99L, 2L));
+
+        assertEquals(List.of(2L, 1L), result.stream().map(EventAvailability::getEventId).toList());
+        assertEquals(60L, result.get(1).getAvailableSpots());
+        assertNull(result.get(0).getAvailableSpots());
+    }
+
+    @Test
+    void getAvailability_ShouldServeCachedCountersAndQueryOnlyMisses() {
+        when(eventRepository.findAvailabilityByIdIn(List.of(1L)))
+                .thenReturn(List.of(new EventAvailability(1L, 100, 40L)));
+        when(eventRepository.findAvailabilityByIdIn(List.of(2L)))
+                .thenReturn(List.of(new EventAvailability(2L, 50, 5L)));
+        availabilityService.getAvailability(List.of(1L));
+
+        List<EventAvailability> result = availabilityService.getAvailability(List.of(1L, 2L));
+
+        assertEquals(2, result.size());
+        verify(eventRepository, times(1)).findAvailabilityByIdIn(List.of(1L));
+        verify(eventRepository, times(1)).findAvailabilityByIdIn(List.of(2L));
+    }
+
+    @Test
+    void getAvailability_AfterAdjust_ShouldReflectNewCount() {
+        when(eventRepository.findAvailabilityByIdIn(List.of(1L)))
+                .thenReturn(List.of(new EventAvailability(1L, 100, 40L)));
+        availabilityService.getAvailability(List.of(1L));
+
+        availabilityCounterCache.adjust(1L, 1);
+        availabilityCounterCache.adjust(1L, 1);
+        availabilityCounterCache.adjust(1L, -1);
+
+        assertEquals(59L, availabilityService.getAvailability(List.of(1L)).get(0).getAvailableSpots());
+        verify(eventRepository, times(1)).findAvailabilityByIdIn(List.of(1L));
+    }
+
+    @Test
+    void getAvailability_AfterEvict_ShouldReload() {
+        when(eventRepository.findAvailabilityByIdIn(List.of(1L)))
+                .thenReturn(List.of(new EventAvailability(1L, 100, 40L)))
+                .thenReturn(List.of(new EventAvailability(1L, 120, 40L)));
+        availabilityService.getAvailability(List.of(1L));
+
+        availabilityCounterCache.evict(1L);
+
+        assertEquals(80L, availabilityService.getAvailability(List.of(1L)).get(0).getAvailableSpots());
+    }
+}
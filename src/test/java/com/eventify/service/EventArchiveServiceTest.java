@@ -0,0 +1,123 @@
+package com.eventify.service;
+
+import com.eventify.model.Event;
+import com.eventify.model.Registration;
+import com.eventify.repository.ArchivedEventRepository;
+import com.eventify.repository.ArchivedRegistrationRepository;
+import com.eventify.repository.EventRepository;
+import com.eventify.repository.RegistrationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Not @Transactional: archival commits one transaction per chunk.
+ */
+@SpringBootTest(properties = {
+        "eventify.archive.enabled=true",
+        "eventify.archive.horizon=30d",
+        "eventify.archive.chunk-size=2"
+})
+@ActiveProfiles("test")
+class EventArchiveServiceTest {
+
+    @Autowired
+    private EventArchiveService eventArchiveService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Autowired
+    private ArchivedRegistrationRepository archivedRegistrationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Event> pastEvents = new ArrayList<>();
+    private Event upcomingEvent;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            pastEvents.add(saveEvent("Past Event " + i, LocalDateTime.now().minusDays(60 + i)));
+            saveRegistration(10L + i, pastEvents.get(i).getId());
+        }
+        upcomingEvent = saveEvent("Upcoming Event", LocalDateTime.now().plusDays(7));
+        saveRegistration(10L, upcomingEvent.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM registrations_archive");
+        jdbcTemplate.update("DELETE FROM events_archive");
+    }
+
+    @Test
+    void archivePastEvents_ShouldMoveOldEventsWithTheirRegistrations() {
+        eventArchiveService.archivePastEvents();
+
+        assertEquals(List.of(upcomingEvent.getId()), eventRepository.findAll().stream().map(Event::getId).toList());
+        assertEquals(1, registrationRepository.count());
+        assertEquals(3, archivedEventRepository.count());
+        assertEquals(3, archivedRegistrationRepository.count());
+        assertTrue(eventService.getEventById(pastEvents.get(0).getId()).isEmpty());
+    }
+
+    @Test
+    void archivedReads_ShouldReturnArchivedEventsAndRegistrations() {
+        eventArchiveService.archivePastEvents();
+
+        List<Event> archived = eventArchiveService.getArchivedEventsByOrganizerId(1L);
+        assertEquals(3, archived.size());
+        Map<Long, Long> counts = eventArchiveService.getArchivedRegistrationCounts(
+                archived.stream().map(Event::getId).toList());
+        assertEquals(3, counts.size());
+        assertEquals(1L, counts.get(pastEvents.get(0).getId()));
+        List<Registration> registrations = eventArchiveService.getArchivedUserRegistrations(11L);
+        assertEquals(1, registrations.size());
+        assertEquals(pastEvents.get(1).getId(), registrations.get(0).getEventId());
+        assertEquals("Past Event 1", eventArchiveService.getArchivedEvents(List.of(pastEvents.get(1).getId()))
+                .get(pastEvents.get(1).getId()).getTitle());
+    }
+
+    private Event saveEvent(String title, LocalDateTime dateTime) {
+        Event event = new Event();
+        event.setTitle(title);
+        event.setLocation("Hall");
+        event.setDateTime(dateTime);
+        event.setCapacity(50);
+        event.setOrganizerId(1L);
+        return eventRepository.save(event);
+    }
+
+    private void saveRegistration(Long userId, Long eventId) {
+        Registration registration = new Registration();
+        registration.setUserId(userId);
+        registration.setEventId(eventId);
+        registration.setRegisteredAt(LocalDateTime.now().minusDays(90));
+        registration.setStatus("CONFIRMED");
+        registrationRepository.save(registration);
+    }
+}
@@ -0,0 +1,91 @@
+package com.eventify.service;
+
+import com.eventify.model.Event;
+import com.eventify.repository.EventRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Not @Transactional: the second-level cache is only populated and invalidated on commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EventCacheTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Event testEvent;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Event event = new Event();
+        event.setTitle("Cached Event");
+        event.setDescription("Test Description");
+        event.setLocation("Test Location");
+        event.setDateTime(LocalDateTime.now().plusDays(7));
+        event.setCapacity(100);
+        event.setOrganizerId(1L);
+        testEvent = eventService.createEvent(event);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    void getEventById_SecondLookup_ShouldHitSecondLevelCache() {
+        eventService.getEventById(testEvent.getId());
+        long hitsBefore = statistics.getSecondLevelCacheHitCount();
+
+        eventService.getEventById(testEvent.getId());
+
+        assertTrue(statistics.getSecondLevelCacheHitCount() > hitsBefore);
+    }
+
+    @Test
+    void updateEvent_ShouldRefreshCachedEntity() {
+        eventService.getEventById(testEvent.getId());
+
+        Event event = eventService.getEventById(testEvent.getId()).orElseThrow();
+        event.setTitle("Renamed Event");
+        eventService.updateEvent(event);
+
+        assertEquals("Renamed Event", eventService.getEventById(testEvent.getId()).orElseThrow().getTitle());
+        assertEquals("Renamed Event", eventService.getUpcomingEvents().get(0).getTitle());
+    }
+
+    @Test
+    void deleteEvent_ShouldEvictCachedEntityAndQueryResults() {
+        eventService.getEventById(testEvent.getId());
+        assertEquals(1, eventService.getUpcomingEvents().size());
+
+        eventService.deleteEvent(testEvent.getId());
+
+        Optional<Event> result = eventService.getEventById(testEvent.getId());
+        assertFalse(result.isPresent());
+        assertTrue(eventService.getUpcomingEvents().isEmpty());
+    }
+}
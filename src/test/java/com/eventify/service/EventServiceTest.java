@@ -1,15 +1,24 @@
 package com.eventify.service;
 
+import com.eventify.datasource.ReadYourWritesTracker;
+import com.eventify.domain.DomainEventBus;
+import com.eventify.domain.EventDeleted;
+import com.eventify.domain.EventUpdated;
 import com.eventify.model.Event;
 import com.eventify.repository.EventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +33,15 @@ class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Mock
+    private DomainEventBus domainEventBus;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private EventService eventService;
 
@@ -95,6 +113,30 @@ class EventServiceTest {
         assertEquals("Test Event", result.get(0).getTitle());
     }
 
+    @Test
+    void getUpcomingEvents_ShouldRoundTheCutoffUpToTheNextMinute() {
+        LocalDateTime before = LocalDateTime.now();
+
+        eventService.getUpcomingEvents();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(eventRepository).findByDateTimeAfterOrderByDateTimeAsc(cutoff.capture());
+        assertTrue(cutoff.getValue().isAfter(before));
+        assertEquals(cutoff.getValue().truncatedTo(ChronoUnit.MINUTES), cutoff.getValue());
+    }
+
+    @Test
+    void getUpcomingEvents_ShouldRecordListingLatencyAndSize() {
+        when(eventRepository.findByDateTimeAfterOrderByDateTimeAsc(any(LocalDateTime.class)))
+                .thenReturn(Arrays.asList(testEvent));
+
+        eventService.getUpcomingEvents();
+
+        assertEquals(1L, meterRegistry.get("eventify.events.listing").tag("listing", "upcoming").timer().count());
+        assertEquals(1.0, meterRegistry.get("eventify.events.listing.size").tag("listing", "upcoming").summary().totalAmount());
+        assertEquals(0L, meterRegistry.get("eventify.events.listing").tag("listing", "all").timer().count());
+    }
+
     @Test
     void getEventsByOrganizerId_ShouldReturnOrganizerEvents() {
         when(eventRepository.findByOrganizerId(1L)).thenReturn(Arrays.asList(testEvent));
@@ -108,12 +150,13 @@ class EventServiceTest {
     @Test
     void updateEvent_ShouldSaveAndReturnUpdatedEvent() {
         testEvent.setTitle("Updated Title");
-        when(eventRepository.save(testEvent)).thenReturn(testEvent);
+        when(eventRepository.saveAndFlush(testEvent)).thenReturn(testEvent);
 
         Event result = eventService.updateEvent(testEvent);
 
         assertEquals("Updated Title", result.getTitle());
-        verify(eventRepository, times(1)).save(testEvent);
+        verify(eventRepository, times(1)).saveAndFlush(testEvent);
+        verify(domainEventBus).publish(argThat(event -> event instanceof EventUpdated && event.eventId().equals(1L)));
     }
 
     @Test
@@ -123,6 +166,7 @@ class EventServiceTest {
         eventService.deleteEvent(1L);
 
         verify(eventRepository, times(1)).deleteById(1L);
+        verify(domainEventBus).publish(argThat(event -> event instanceof EventDeleted && event.eventId().equals(1L)));
     }
 
     @Test
@@ -1,23 +1,42 @@
 package com.eventify.service;
 
+import com.eventify.datasource.ReadYourWritesTracker;
+import com.eventify.domain.DomainEventBus;
+import com.eventify.domain.RegistrationCancelled;
+import com.eventify.domain.RegistrationCreated;
+import com.eventify.dto.EventRegistrationCount;
+import com.eventify.journal.JournalEntry;
+import com.eventify.journal.RegistrationJournal;
 import com.eventify.model.Event;
 import com.eventify.model.Registration;
 import com.eventify.repository.EventRepository;
 import com.eventify.repository.RegistrationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +48,21 @@ class RegistrationServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Mock
+    private DomainEventBus domainEventBus;
+
+    @Mock
+    private RegistrationJournal registrationJournal;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private RegistrationService registrationService;
 
@@ -60,6 +94,56 @@ class RegistrationServiceTest {
         assertNotNull(result);
         assertEquals("CONFIRMED", result.getStatus());
         verify(registrationRepository, times(1)).save(any(Registration.class));
+        verify(domainEventBus).publish(argThat(event -> event instanceof RegistrationCreated created
+                && created.registrationId().equals(1L) && created.eventId().equals(1L)));
+    }
+
+    @Test
+    void registerUserForEvent_WithJournal_ShouldAppendInsteadOfSaving() {
+        when(registrationJournal.isEnabled()).thenReturn(true);
+        when(registrationJournal.append(eq(1L), eq(1L), any(LocalDateTime.class))).thenReturn(true);
+
+        Registration result = registrationService.registerUserForEvent(1L, 1L);
+
+        assertNull(result.getId());
+        assertEquals("CONFIRMED", result.getStatus());
+        verify(registrationRepository, never()).save(any(Registration.class));
+    }
+
+    @Test
+    void registerUserForEvent_WhenJournalFull_ShouldSaveDirectly() {
+        when(registrationJournal.isEnabled()).thenReturn(true);
+        when(registrationJournal.append(eq(1L), eq(1L), any(LocalDateTime.class))).thenReturn(false);
+        when(registrationRepository.save(any(Registration.class))).thenReturn(testRegistration);
+
+        Registration result = registrationService.registerUserForEvent(1L, 1L);
+
+        assertEquals(1L, result.getId());
+    }
+
+    @Test
+    void isEventAtCapacity_ShouldCountPendingJournalEntries() {
+        testEvent.setCapacity(10);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(registrationRepository.countByEventId(1L)).thenReturn(8L);
+        when(registrationJournal.isEnabled()).thenReturn(true);
+        when(registrationJournal.countWithPending(eq(1L), any()))
+                .thenAnswer(invocation -> invocation.<LongSupplier>getArgument(1).getAsLong() + 2);
+
+        assertTrue(registrationService.isEventAtCapacity(1L));
+    }
+
+    @Test
+    void cancelRegistrationByUserAndEvent_WhenPending_ShouldFlushBeforeOpeningTransaction() {
+        when(registrationJournal.isPending(1L, 1L)).thenReturn(true);
+        when(registrationRepository.findByUserIdAndEventId(1L, 1L)).thenReturn(Optional.of(testRegistration));
+
+        registrationService.cancelRegistrationByUserAndEvent(1L, 1L);
+
+        InOrder inOrder = inOrder(registrationJournal, transactionManager, registrationRepository);
+        inOrder.verify(registrationJournal).flush();
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(registrationRepository).delete(testRegistration);
     }
 
     @Test
@@ -72,6 +156,26 @@ class RegistrationServiceTest {
         assertEquals(1L, result.get(0).getUserId());
     }
 
+    @Test
+    void getUserRegistrations_WithPendingJournalEntries_ShouldAppendThoseNotYetStored() {
+        LocalDateTime registeredAt = LocalDateTime.of(2030, 5, 1, 18, 30);
+        // Event 1 was flushed between reading the journal and the database
+        when(registrationJournal.pendingEntries(1L)).thenReturn(List.of(
+                new JournalEntry(7L, 1L, 1L, registeredAt, 0L),
+                new JournalEntry(8L, 1L, 2L, registeredAt, 0L)));
+        when(registrationRepository.findByUserId(1L)).thenReturn(List.of(testRegistration));
+
+        List<Registration> result = registrationService.getUserRegistrations(1L);
+
+        assertEquals(2, result.size());
+        assertSame(testRegistration, result.get(0));
+        Registration pending = result.get(1);
+        assertNull(pending.getId());
+        assertEquals(2L, pending.getEventId());
+        assertEquals(registeredAt, pending.getRegisteredAt());
+        assertEquals("CONFIRMED", pending.getStatus());
+    }
+
     @Test
     void getEventRegistrations_ShouldReturnEventRegistrations() {
         when(registrationRepository.findByEventId(1L)).thenReturn(Arrays.asList(testRegistration));
@@ -127,6 +231,27 @@ class RegistrationServiceTest {
         verify(registrationRepository, times(1)).deleteById(1L);
     }
 
+    @Test
+    void cancelRegistrationByUserAndEvent_ShouldPublishCancellation() {
+        when(registrationRepository.findByUserIdAndEventId(1L, 1L)).thenReturn(Optional.of(testRegistration));
+
+        registrationService.cancelRegistrationByUserAndEvent(1L, 1L);
+
+        verify(registrationRepository).delete(testRegistration);
+        verify(domainEventBus).publish(argThat(event -> event instanceof RegistrationCancelled cancelled
+                && cancelled.registrationId().equals(1L) && cancelled.userId().equals(1L)));
+    }
+
+    @Test
+    void getRegisteredEventIds_ShouldReturnEventIdsFromOneQuery() {
+        when(registrationRepository.findEventIdsByUserId(1L)).thenReturn(Arrays.asList(1L, 5L));
+
+        Set<Long> result = registrationService.getRegisteredEventIds(1L);
+
+        assertEquals(Set.of(1L, 5L), result);
+        verify(registrationRepository, never()).existsByUserIdAndEventId(any(), any());
+    }
+
     @Test
     void getRegistrationCount_ShouldReturnCount() {
         when(registrationRepository.countByEventId(1L)).thenReturn(50L);
@@ -136,6 +261,22 @@ class RegistrationServiceTest {
         assertEquals(50L, result);
     }
 
+    @Test
+    void getRegistrationCounts_ShouldCountAllEventsInOneQueryPlusPending() {
+        List<Long> eventIds = List.of(1L, 2L);
+        when(registrationRepository.countByEventIdIn(eventIds)).thenReturn(List.of(new EventRegistrationCount(1L, 3L)));
+        when(registrationJournal.countsWithPending(eq(eventIds), any())).thenAnswer(invocation -> {
+            Map<Long, Long> counts = new HashMap<>(invocation.<Supplier<Map<Long, Long>>>getArgument(1).get());
+            counts.merge(2L, 1L, Long::sum);
+            return counts;
+        });
+
+        Map<Long, Long> result = registrationService.getRegistrationCounts(eventIds);
+
+        assertEquals(Map.of(1L, 3L, 2L, 1L), result);
+        verify(registrationRepository, never()).countByEventId(any());
+    }
+
     @Test
     void isEventAtCapacity_WhenAtCapacity_ShouldReturnTrue() {
         testEvent.setCapacity(50);
@@ -147,6 +288,30 @@ class RegistrationServiceTest {
         assertTrue(result);
     }
 
+    @Test
+    void isEventAtCapacity_WhenAtCapacity_ShouldCountCapacityRejection() {
+        testEvent.setCapacity(50);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(registrationRepository.countByEventId(1L)).thenReturn(50L);
+
+        registrationService.isEventAtCapacity(1L);
+
+        assertEquals(1.0, meterRegistry.get("eventify.registration.rejected").tag("reason", "capacity").counter().count());
+        assertEquals(0.0, meterRegistry.get("eventify.registration.rejected").tag("reason", "duplicate").counter().count());
+    }
+
+    @Test
+    void registerUserForEvent_WhenUniqueIndexRejects_ShouldCountDuplicateAndRethrow() {
+        when(registrationRepository.save(any(Registration.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_registrations_user_event"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> registrationService.registerUserForEvent(1L, 1L));
+
+        assertEquals(1.0, meterRegistry.get("eventify.registration.rejected").tag("reason", "duplicate").counter().count());
+        assertEquals(0L, meterRegistry.get("eventify.registration.register").tag("outcome", "database").timer().count());
+        verify(domainEventBus, never()).publish(any());
+    }
+
     @Test
     void isEventAtCapacity_WhenNotAtCapacity_ShouldReturnFalse() {
         testEvent.setCapacity(100);
@@ -0,0 +1,54 @@
+package db.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * V6 against a database whose email constraint carries a Hibernate-generated name, as in databases
+ * baselined at V1.
+ */
+class NameUsersEmailConstraintTest {
+
+    private final DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:email_constraint_test;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void migrate_WithHibernateConstraintName_ShouldRenameIt() {
+        Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+        jdbcTemplate.execute("ALTER TABLE users RENAME CONSTRAINT uk_users_email TO uk6dotkott2kjsp8vw4d0m25fb7");
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        assertEquals(List.of("uk_users_email"), emailConstraints());
+    }
+
+    @Test
+    void migrate_WithConstraintFromV1_ShouldKeepIt() {
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        assertEquals(List.of("uk_users_email"), emailConstraints());
+    }
+
+    private List<String> emailConstraints() {
+        return jdbcTemplate.queryForList("""
+                SELECT LOWER(tc.constraint_name)
+                FROM information_schema.table_constraints tc
+                JOIN information_schema.key_column_usage kcu ON kcu.constraint_name = tc.constraint_name
+                WHERE tc.table_name = 'users' AND tc.constraint_type = 'UNIQUE' AND kcu.column_name = 'email'
+                """, String.class);
+    }
+}